@@ -5,6 +5,7 @@ import java.util.List;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.github.liaochong.converter.annoation.ConvertTo;
 import com.github.liaochong.converter.core.BeanConverter;
 import com.github.liaochong.converter.example.model.UserBO;
 import com.github.liaochong.converter.example.model.UserDO;
@@ -26,7 +27,8 @@ public class UserController {
     }
 
     @GetMapping("/users")
-    public List<UserBO> getUsers() {
+    @ConvertTo(UserBO.class)
+    public List<UserDO> getUsers() {
         UserDO user = new UserDO();
         user.setName("one");
         user.setAge(18);
@@ -35,6 +37,6 @@ public class UserController {
         user1.setName("two");
         user1.setAge(23);
 
-        return BeanConverter.convert(CollectionBuilder.arrayList(user, user1), UserBO.class);
+        return CollectionBuilder.arrayList(user, user1);
     }
 }
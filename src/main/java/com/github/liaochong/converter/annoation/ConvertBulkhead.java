@@ -0,0 +1,60 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.annoation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.github.liaochong.converter.bulkhead.QueuePolicy;
+
+/**
+ * 转换方法并发隔离
+ * <p>
+ * 标注在转换方法或转换类上，标注在类上时类中每个转换方法各自计数；方法上的注解优先于类上的注解，未标注时使用配置中的默认值
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConvertBulkhead {
+
+    /**
+     * 最大并发调用数，小于等于0时不限制
+     *
+     * @return 最大并发调用数
+     */
+    int maxConcurrency() default 0;
+
+    /**
+     * 并发数已满时的排队策略
+     *
+     * @return 排队策略
+     */
+    QueuePolicy queuePolicy() default QueuePolicy.WAIT;
+
+    /**
+     * 一次批量转换的期限（毫秒），从批量转换开始时计算，小于等于0时不限制
+     *
+     * @return 期限
+     */
+    long deadlineMillis() default 0;
+}
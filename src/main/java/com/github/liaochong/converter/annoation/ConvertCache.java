@@ -0,0 +1,69 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.annoation;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import com.github.liaochong.converter.cache.DefaultResultCacheFactory;
+import com.github.liaochong.converter.cache.Eviction;
+import com.github.liaochong.converter.cache.ResultCacheFactory;
+
+/**
+ * 转换结果缓存
+ * <p>
+ * 标注在转换方法或转换类上，仅适用于幂等的转换方法；缓存以源对象的equals/hashCode为键，方法上的注解优先于类上的注解
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface ConvertCache {
+
+    /**
+     * 最大缓存数量
+     *
+     * @return 最大缓存数量
+     */
+    long maximumSize() default 1024;
+
+    /**
+     * 写入后过期时间（毫秒），小于等于0时不过期
+     *
+     * @return 过期时间
+     */
+    long expireAfterWriteMillis() default 0;
+
+    /**
+     * 淘汰策略
+     *
+     * @return 淘汰策略
+     */
+    Eviction eviction() default Eviction.LRU;
+
+    /**
+     * 缓存工厂，需提供无参构造器
+     *
+     * @return 缓存工厂
+     */
+    Class<? extends ResultCacheFactory> factory() default DefaultResultCacheFactory.class;
+}
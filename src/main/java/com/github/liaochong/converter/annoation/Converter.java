@@ -29,4 +29,11 @@ import java.lang.annotation.Target;
 @Retention(RetentionPolicy.RUNTIME)
 @Documented
 public @interface Converter {
+
+    /**
+     * 转换对象是否线程安全；为false时每个线程使用各自的转换对象实例，仅对非静态转换方法有效
+     *
+     * @return true/false
+     */
+    boolean threadSafe() default true;
 }
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.bulkhead;
+
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.exception.ConvertRejectedException;
+import com.github.liaochong.converter.exception.ConvertTimeoutException;
+
+import lombok.Getter;
+
+/**
+ * 转换方法的并发隔离
+ * <p>
+ * 限制同一转换方法的最大并发调用数，避免慢转换方法占满并行转换的工作线程；同时限制一次批量转换的耗时，
+ * 超过期限后尚未开始的转换不再执行，等待许可的线程立即返回，并抛出ConvertTimeoutException；已开始执行的转换方法无法中断，执行完成后结束。
+ * 等待许可通过 {@link ForkJoinPool#managedBlock(ForkJoinPool.ManagedBlocker)} 阻塞，并行转换的工作线程等待时线程池可补充线程，
+ * 其他并行任务不会因此没有工作线程可用
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class Bulkhead {
+
+    private final String name;
+
+    @Getter
+    private final int maxConcurrency;
+
+    @Getter
+    private final QueuePolicy queuePolicy;
+
+    @Getter
+    private final long deadlineMillis;
+
+    /**
+     * 并发许可，不限制并发数时为null
+     */
+    private final Semaphore permits;
+
+    private Bulkhead(String name, int maxConcurrency, QueuePolicy queuePolicy, long deadlineMillis) {
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.queuePolicy = Objects.isNull(queuePolicy) ? QueuePolicy.WAIT : queuePolicy;
+        this.deadlineMillis = deadlineMillis;
+        this.permits = maxConcurrency > 0 ? new Semaphore(maxConcurrency, true) : null;
+    }
+
+    /**
+     * 静态工厂方法
+     *
+     * @param name 名称，用于异常信息
+     * @param maxConcurrency 最大并发调用数，小于等于0时不限制
+     * @param queuePolicy 并发数已满时的排队策略
+     * @param deadlineMillis 批量转换期限（毫秒），小于等于0时不限制
+     * @return Bulkhead，既不限制并发数也不限制期限时为null
+     */
+    public static Bulkhead of(String name, int maxConcurrency, QueuePolicy queuePolicy, long deadlineMillis) {
+        if (maxConcurrency <= 0 && deadlineMillis <= 0) {
+            return null;
+        }
+        return new Bulkhead(name, maxConcurrency, queuePolicy, deadlineMillis);
+    }
+
+    /**
+     * 在并发限制内执行转换
+     *
+     * @throws ConvertTimeoutException 超过批量转换期限
+     * @throws ConvertRejectedException 并发数已满且排队策略为立即拒绝
+     *
+     * @param batchStartNanos 批量转换开始时间，{@link System#nanoTime()}
+     * @param call 转换
+     * @param <T> 结果类型
+     * @return 结果
+     */
+    public <T> T execute(long batchStartNanos, Supplier<T> call) {
+        long remainingNanos = remainingNanos(batchStartNanos);
+        if (Objects.isNull(permits)) {
+            return call.get();
+        }
+        acquire(remainingNanos);
+        try {
+            return call.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 当前可用的并发许可数
+     *
+     * @return 可用许可数，不限制并发数时为-1
+     */
+    public int getAvailablePermits() {
+        return Objects.isNull(permits) ? -1 : permits.availablePermits();
+    }
+
+    /**
+     * 计算距批量转换期限的剩余时间
+     *
+     * @throws ConvertTimeoutException 已超过期限
+     *
+     * @param batchStartNanos 批量转换开始时间
+     * @return 剩余纳秒数，不限制期限时为Long.MAX_VALUE
+     */
+    private long remainingNanos(long batchStartNanos) {
+        if (deadlineMillis <= 0) {
+            return Long.MAX_VALUE;
+        }
+        long remainingNanos = TimeUnit.MILLISECONDS.toNanos(deadlineMillis) - (System.nanoTime() - batchStartNanos);
+        if (remainingNanos <= 0) {
+            throw timeout();
+        }
+        return remainingNanos;
+    }
+
+    /**
+     * 获取并发许可
+     *
+     * @param remainingNanos 最长等待时间
+     */
+    private void acquire(long remainingNanos) {
+        if (queuePolicy == QueuePolicy.REJECT) {
+            if (!permits.tryAcquire()) {
+                throw ConvertRejectedException.of("Method \"" + name + "\" reached the maximum concurrency of "
+                        + maxConcurrency);
+            }
+            return;
+        }
+        PermitBlocker blocker = new PermitBlocker(remainingNanos);
+        try {
+            ForkJoinPool.managedBlock(blocker);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw ConvertException.of("Interrupted while waiting to call method \"" + name + "\"", e);
+        }
+        if (!blocker.acquired) {
+            throw timeout();
+        }
+    }
+
+    private ConvertTimeoutException timeout() {
+        return ConvertTimeoutException.of("Batch conversion with method \"" + name + "\" exceeded the deadline of "
+                + deadlineMillis + " ms");
+    }
+
+    /**
+     * 等待并发许可，超过最长等待时间后结束等待，acquired为false
+     */
+    private final class PermitBlocker implements ForkJoinPool.ManagedBlocker {
+
+        /**
+         * 最长等待时间，不限制时为Long.MAX_VALUE
+         */
+        private final long remainingNanos;
+
+        private boolean acquired;
+
+        private boolean timedOut;
+
+        PermitBlocker(long remainingNanos) {
+            this.remainingNanos = remainingNanos;
+        }
+
+        @Override
+        public boolean block() throws InterruptedException {
+            if (isReleasable()) {
+                return true;
+            }
+            if (remainingNanos == Long.MAX_VALUE) {
+                permits.acquire();
+                acquired = true;
+            } else {
+                acquired = permits.tryAcquire(remainingNanos, TimeUnit.NANOSECONDS);
+                timedOut = !acquired;
+            }
+            return true;
+        }
+
+        @Override
+        public boolean isReleasable() {
+            if (!acquired && !timedOut) {
+                acquired = permits.tryAcquire();
+            }
+            return acquired || timedOut;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.bulkhead;
+
+/**
+ * 并发数已满时的排队策略
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public enum QueuePolicy {
+
+    /**
+     * 等待空闲许可，声明了批量转换期限时最多等待至期限；ForkJoinPool的工作线程等待期间线程池可补充线程
+     */
+    WAIT,
+
+    /**
+     * 立即拒绝，抛出ConvertRejectedException
+     */
+    REJECT
+}
@@ -0,0 +1,49 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.cache;
+
+import org.springframework.util.ClassUtils;
+
+import com.github.liaochong.converter.annoation.ConvertCache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 默认缓存工厂
+ * <p>
+ * LRU使用内置分段实现，W-TinyLFU在classpath中存在caffeine时使用caffeine，否则退化为LRU
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+public class DefaultResultCacheFactory implements ResultCacheFactory {
+
+    private static final boolean CAFFEINE_PRESENT = ClassUtils.isPresent(
+            "com.github.benmanes.caffeine.cache.Caffeine", DefaultResultCacheFactory.class.getClassLoader());
+
+    @Override
+    public ResultCache create(ConvertCache convertCache) {
+        if (convertCache.eviction() == Eviction.W_TINY_LFU) {
+            if (CAFFEINE_PRESENT) {
+                return new CaffeineResultCache(convertCache.maximumSize(), convertCache.expireAfterWriteMillis());
+            }
+            log.warn("Caffeine is not present, W-TinyLFU eviction falls back to LRU");
+        }
+        return new LruResultCache(convertCache.maximumSize(), convertCache.expireAfterWriteMillis());
+    }
+}
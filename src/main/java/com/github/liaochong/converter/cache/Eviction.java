@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.cache;
+
+/**
+ * 缓存淘汰策略
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public enum Eviction {
+
+    /**
+     * 最近最少使用
+     */
+    LRU,
+
+    /**
+     * W-TinyLFU，需要classpath中存在caffeine，否则退化为LRU
+     */
+    W_TINY_LFU
+}
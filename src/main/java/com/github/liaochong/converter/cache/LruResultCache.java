@@ -0,0 +1,169 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 分段LRU缓存
+ * <p>
+ * 按键的hash分为多个段，每段为访问顺序的LinkedHashMap，段内加锁；转换操作在锁外执行，并发未命中时可能重复转换；
+ * 最大缓存数量按段分配，各段容量之和等于最大缓存数量，淘汰在段内进行，因此缓存数量不会超过最大缓存数量，
+ * 但键的hash分布不均时，可能在缓存数量达到最大缓存数量之前就开始淘汰
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class LruResultCache implements ResultCache {
+
+    private static final int MAX_SEGMENTS = 16;
+
+    private static final Object NULL_VALUE = new Object();
+
+    private final Segment[] segments;
+
+    private final long expireAfterWriteNanos;
+
+    private final LongAdder hitCount = new LongAdder();
+
+    private final LongAdder missCount = new LongAdder();
+
+    private final LongAdder evictionCount = new LongAdder();
+
+    public LruResultCache(long maximumSize, long expireAfterWriteMillis) {
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("MaximumSize must be positive");
+        }
+        int segmentCount = 1;
+        while (segmentCount < MAX_SEGMENTS && segmentCount * 2L <= maximumSize) {
+            segmentCount <<= 1;
+        }
+        this.segments = new Segment[segmentCount];
+        // 余数分配到前面的段，各段容量之和等于最大缓存数量
+        long segmentSize = maximumSize / segmentCount;
+        long remainder = maximumSize % segmentCount;
+        for (int i = 0; i < segmentCount; i++) {
+            segments[i] = new Segment(i < remainder ? segmentSize + 1 : segmentSize);
+        }
+        this.expireAfterWriteNanos = expireAfterWriteMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(expireAfterWriteMillis)
+                : 0;
+    }
+
+    @Override
+    public Object get(Object source, Function<Object, Object> loader) {
+        Segment segment = segmentFor(source);
+        Entry entry;
+        synchronized (segment) {
+            entry = segment.get(source);
+            if (Objects.nonNull(entry) && isExpired(entry)) {
+                segment.remove(source);
+                entry = null;
+            }
+        }
+        if (Objects.nonNull(entry)) {
+            hitCount.increment();
+            return entry.value == NULL_VALUE ? null : entry.value;
+        }
+        missCount.increment();
+        Object value = loader.apply(source);
+        synchronized (segment) {
+            segment.put(source, new Entry(Objects.isNull(value) ? NULL_VALUE : value, System.nanoTime()));
+        }
+        return value;
+    }
+
+    @Override
+    public void invalidateAll() {
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                segment.clear();
+            }
+        }
+    }
+
+    /**
+     * 当前缓存数量，包括已过期但未被移除的条目
+     *
+     * @return 缓存数量
+     */
+    public long size() {
+        long size = 0;
+        for (Segment segment : segments) {
+            synchronized (segment) {
+                size += segment.size();
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public CacheStats stats() {
+        return new CacheStats(hitCount.sum(), missCount.sum(), evictionCount.sum());
+    }
+
+    private Segment segmentFor(Object source) {
+        int hash = source.hashCode();
+        hash ^= hash >>> 16;
+        return segments[hash & (segments.length - 1)];
+    }
+
+    private boolean isExpired(Entry entry) {
+        return expireAfterWriteNanos > 0 && System.nanoTime() - entry.writeTime >= expireAfterWriteNanos;
+    }
+
+    /**
+     * 缓存条目
+     */
+    private static final class Entry {
+
+        final Object value;
+
+        final long writeTime;
+
+        Entry(Object value, long writeTime) {
+            this.value = value;
+            this.writeTime = writeTime;
+        }
+    }
+
+    /**
+     * 缓存段，访问顺序
+     */
+    private final class Segment extends LinkedHashMap<Object, Entry> {
+
+        private final long capacity;
+
+        Segment(long capacity) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Object, Entry> eldest) {
+            boolean evict = size() > capacity;
+            if (evict) {
+                evictionCount.increment();
+            }
+            return evict;
+        }
+    }
+}
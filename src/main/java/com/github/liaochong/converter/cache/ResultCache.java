@@ -0,0 +1,51 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.cache;
+
+import java.util.function.Function;
+
+/**
+ * 转换结果缓存
+ * <p>
+ * 实现需保证线程安全，且允许缓存null结果
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public interface ResultCache {
+
+    /**
+     * 获取缓存结果，不存在时使用loader加载并缓存
+     *
+     * @param source 源对象
+     * @param loader 转换操作
+     * @return 转换结果
+     */
+    Object get(Object source, Function<Object, Object> loader);
+
+    /**
+     * 清空缓存
+     */
+    void invalidateAll();
+
+    /**
+     * 缓存统计
+     *
+     * @return 统计快照
+     */
+    CacheStats stats();
+}
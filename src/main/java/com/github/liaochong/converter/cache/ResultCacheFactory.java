@@ -0,0 +1,35 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.cache;
+
+import com.github.liaochong.converter.annoation.ConvertCache;
+
+/**
+ * 转换结果缓存工厂
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public interface ResultCacheFactory {
+
+    /**
+     * 根据缓存声明创建缓存
+     *
+     * @param convertCache 缓存声明
+     * @return 缓存
+     */
+    ResultCache create(ConvertCache convertCache);
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import javax.annotation.Resource;
+
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.DisposableBean;
+
+import com.github.liaochong.converter.context.ConversionProfile;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 转换热点记录器
+ * <p>
+ * 容器关闭时将本次运行记录的转换热点写入 bean.conversion.warm-up-profile 指定的文件，供下次启动预热
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+public class ConversionProfileRecorder implements DisposableBean {
+
+    @Resource
+    private ConverterProperties converterProperties;
+
+    @Override
+    public void destroy() {
+        if (StringUtils.isBlank(converterProperties.getWarmUpProfile()) || !ConversionProfile.isRecording()) {
+            return;
+        }
+        Path profile = Paths.get(converterProperties.getWarmUpProfile());
+        try {
+            ConversionProfile.save(profile);
+        } catch (IOException e) {
+            log.warn("Failed to save warm-up profile \"{}\"", profile, e);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.configuration;
+
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.BeanFactoryAware;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.converter.ConverterRegistry;
+
+import com.github.liaochong.converter.context.ConversionServiceBridge;
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.ConverterStartupReport;
+
+/**
+ * 将 {@link ConversionServiceBridge} 注册到容器中的ConversionService
+ * <p>
+ * 容器创建bean之前注册静态转换方法，ConversionService在初始化后即注册桥接，早于@Value注入等容器刷新期间的转换；
+ * 转换bean在容器刷新完成后注册，并同步到已注册的ConversionService。同一ConversionService只注册一次
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConversionServiceBridgeInstaller implements BeanPostProcessor, BeanFactoryAware {
+
+    @Override
+    public void setBeanFactory(BeanFactory beanFactory) {
+        ConverterContext.initializeStaticConverters(beanFactory.getBean(ConverterProperties.class),
+                beanFactory.getBean(ConverterStartupReport.class));
+        if (!(beanFactory instanceof ConfigurableListableBeanFactory)) {
+            return;
+        }
+        ConfigurableListableBeanFactory listableBeanFactory = (ConfigurableListableBeanFactory) beanFactory;
+        ConversionService conversionService = listableBeanFactory.getConversionService();
+        if (conversionService instanceof ConverterRegistry) {
+            ConversionServiceBridge.register((ConverterRegistry) conversionService);
+        }
+        // 先于本处理器创建的ConversionService，如配置属性绑定时获取的conversionService
+        for (String beanName : listableBeanFactory.getBeanNamesForType(ConverterRegistry.class, true, false)) {
+            if (listableBeanFactory.containsSingleton(beanName)) {
+                ConversionServiceBridge.register((ConverterRegistry) listableBeanFactory.getSingleton(beanName));
+            }
+        }
+    }
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof ConverterRegistry) {
+            ConversionServiceBridge.register((ConverterRegistry) bean);
+        }
+        return bean;
+    }
+}
@@ -16,10 +16,13 @@
 package com.github.liaochong.converter.configuration;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
 
 import com.github.liaochong.converter.annoation.Converter;
+import com.github.liaochong.converter.context.ConverterStartupReport;
 
 /**
  * 自动配置
@@ -29,10 +32,27 @@ import com.github.liaochong.converter.annoation.Converter;
  */
 @EnableConfigurationProperties(ConverterProperties.class)
 @ConditionalOnClass({ Converter.class })
+@Import(ConverterWebMvcConfiguration.class)
 public class ConverterAutoConfiguration {
 
     @Bean
     public ConverterStartListener getConverter() {
         return new ConverterStartListener();
     }
+
+    @Bean
+    public ConversionProfileRecorder conversionProfileRecorder() {
+        return new ConversionProfileRecorder();
+    }
+
+    @Bean
+    public static ConverterStartupReport converterStartupReport() {
+        return new ConverterStartupReport();
+    }
+
+    @Bean
+    @ConditionalOnProperty(prefix = "bean.conversion", name = "register-conversion-service", matchIfMissing = true)
+    public static ConversionServiceBridgeInstaller conversionServiceBridgeInstaller() {
+        return new ConversionServiceBridgeInstaller();
+    }
 }
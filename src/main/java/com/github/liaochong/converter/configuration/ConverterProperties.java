@@ -22,6 +22,8 @@ import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 
+import com.github.liaochong.converter.bulkhead.QueuePolicy;
+
 import lombok.AccessLevel;
 import lombok.Data;
 import lombok.experimental.FieldDefaults;
@@ -57,6 +59,46 @@ public class ConverterProperties {
      */
     boolean strictMode = false;
 
+    /**
+     * 是否将转换方法注册到Spring的ConversionService
+     */
+    boolean registerConversionService = true;
+
+    /**
+     * 是否创建无异常栈的NoConverterException、ConverterDisabledException，用于频繁探测转换方法是否存在的场景
+     */
+    boolean stacklessExceptions = false;
+
+    /**
+     * 转换对象为代理且转换方法未被增强时，是否直接调用被代理对象，跳过代理的拦截链
+     */
+    boolean unwrapProxies = false;
+
+    /**
+     * 未声明@ConvertBulkhead的转换方法的最大并发调用数，小于等于0时不限制
+     */
+    int maxConcurrency = 0;
+
+    /**
+     * 未声明@ConvertBulkhead的转换方法并发数已满时的排队策略
+     */
+    QueuePolicy queuePolicy = QueuePolicy.WAIT;
+
+    /**
+     * 未声明@ConvertBulkhead的转换方法一次批量转换的期限（毫秒），小于等于0时不限制
+     */
+    long deadlineMillis = 0;
+
+    /**
+     * 转换热点记录文件，设置后停止时记录各转换的使用次数，启动时据此预先链接handler；未设置时不记录
+     */
+    String warmUpProfile;
+
+    /**
+     * 启动时每个声明了@ConvertWarmUp的热点handler在后台线程中的预热调用次数，为0时只链接不调用
+     */
+    int warmUpInvocations = 0;
+
     public void setScanPackages(Set<String> scanPackages) {
         if (CollectionUtils.isNotEmpty(scanPackages)) {
             this.scanPackages = scanPackages.stream().filter(StringUtils::isNotBlank).map(StringUtils::trim)
@@ -15,16 +15,32 @@
  */
 package com.github.liaochong.converter.configuration;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.annotation.Resource;
 
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.aop.support.AopUtils;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.ApplicationListener;
 import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.annotation.AnnotationUtils;
 
 import com.github.liaochong.converter.annoation.Converter;
+import com.github.liaochong.converter.context.ConversionProfile;
 import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.ConverterInstanceFactory;
+import com.github.liaochong.converter.context.ConverterStartupReport;
+import com.github.liaochong.converter.exception.InvalidConfigurationException;
+import com.github.liaochong.converter.utils.ProxyUtil;
+
+import lombok.extern.slf4j.Slf4j;
 
 /**
  * 启动监听器
@@ -35,15 +51,80 @@ import com.github.liaochong.converter.context.ConverterContext;
  * @author liaochong
  * @version 1.0
  */
-public class ConverterStartListener implements ApplicationListener<ContextRefreshedEvent> {
+@Slf4j
+public class ConverterStartListener implements ApplicationListener<ContextRefreshedEvent>, ApplicationContextAware {
 
     @Resource
     private ConverterProperties converterProperties;
 
+    @Resource
+    private ConverterStartupReport converterStartupReport;
+
+    private ApplicationContext ownContext;
+
+    @Override
+    public void setApplicationContext(ApplicationContext applicationContext) {
+        this.ownContext = applicationContext;
+    }
+
     @Override
     public void onApplicationEvent(ContextRefreshedEvent contextRefreshedEvent) {
         ApplicationContext applicationContext = contextRefreshedEvent.getApplicationContext();
+        // 子容器刷新的事件也会发布到父容器，只处理所在容器的刷新
+        if (applicationContext != ownContext) {
+            return;
+        }
         Map<String, Object> converterBeans = applicationContext.getBeansWithAnnotation(Converter.class);
-        ConverterContext.initialize(converterProperties, converterBeans);
+        ConverterContext.initialize(converterProperties, converterBeans, converterStartupReport,
+                instanceFactory(applicationContext, converterBeans));
+        if (StringUtils.isNotBlank(converterProperties.getWarmUpProfile())) {
+            warmUp(applicationContext.getClassLoader());
+        }
+    }
+
+    /**
+     * 开启转换热点记录，并根据上次记录的热点预先链接、预热handler
+     *
+     * @param classLoader 加载热点源类、目标类的类加载器
+     */
+    private void warmUp(ClassLoader classLoader) {
+        ConversionProfile.startRecording();
+        Path profile = Paths.get(converterProperties.getWarmUpProfile());
+        try {
+            ConversionProfile.warmUp(profile, converterProperties.getWarmUpInvocations(), classLoader);
+        } catch (IOException e) {
+            log.warn("Failed to read warm-up profile \"{}\"", profile, e);
+        }
+    }
+
+    /**
+     * 非线程安全的转换对象的实例工厂，prototype作用域的bean从容器获取，否则由容器创建并注入依赖的新实例
+     *
+     * @throws InvalidConfigurationException 非线程安全的转换对象被代理且不是prototype作用域
+     *
+     * @param applicationContext 容器
+     * @param converterBeans 转换对象
+     * @return 实例工厂
+     */
+    private ConverterInstanceFactory instanceFactory(ApplicationContext applicationContext,
+            Map<String, Object> converterBeans) {
+        Map<Object, String> beanNames = new IdentityHashMap<>();
+        converterBeans.forEach((name, bean) -> {
+            Converter converter = AnnotationUtils.findAnnotation(ProxyUtil.getUserClass(bean), Converter.class);
+            boolean isThreadUnsafe = Objects.nonNull(converter) && !converter.threadSafe();
+            // 由容器创建的新实例没有代理，@Transactional等增强会丢失
+            if (isThreadUnsafe && AopUtils.isAopProxy(bean) && !applicationContext.isPrototype(name)) {
+                throw InvalidConfigurationException.of("Converter bean \"" + name
+                        + "\" is not thread safe and is proxied, it must be declared as prototype scope");
+            }
+            beanNames.put(bean, name);
+        });
+        return bean -> {
+            String beanName = beanNames.get(bean);
+            if (Objects.nonNull(beanName) && applicationContext.isPrototype(beanName)) {
+                return applicationContext.getBean(beanName);
+            }
+            return applicationContext.getAutowireCapableBeanFactory().createBean(ProxyUtil.getUserClass(bean));
+        };
     }
 }
@@ -0,0 +1,40 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.github.liaochong.converter.web.ConvertToReturnValueHandlerInstaller;
+
+/**
+ * Spring MVC集成，仅在Web应用中且classpath中存在Spring MVC时生效
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Configuration
+@ConditionalOnWebApplication
+@ConditionalOnClass(name = "org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter")
+public class ConverterWebMvcConfiguration {
+
+    @Bean
+    public static ConvertToReturnValueHandlerInstaller convertToReturnValueHandlerInstaller() {
+        return new ConvertToReturnValueHandlerInstaller();
+    }
+}
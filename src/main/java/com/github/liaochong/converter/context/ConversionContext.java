@@ -0,0 +1,128 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 批量转换上下文
+ * <p>
+ * 转换方法可声明第二个类型为ConversionContext的参数，形如 {@code T convert(S source, ConversionContext context)}；
+ * 同一次批量转换的所有元素共享同一个上下文，可用于缓存字典、汇率等各元素共用的查询结果；并行转换时各线程同时访问，线程安全
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class ConversionContext {
+
+    private final Map<Object, Attribute> attributes = new ConcurrentHashMap<>();
+
+    /**
+     * 批量转换开始时间，用于计算批量转换期限
+     */
+    private final long startNanos = System.nanoTime();
+
+    /**
+     * 创建上下文的线程固定的注册表，并行转换时工作线程使用同一注册表
+     */
+    private final ConverterContext.RegistryScope scope = ConverterContext.currentScope();
+
+    private ConversionContext() {
+    }
+
+    /**
+     * 静态工厂方法
+     *
+     * @return ConversionContext
+     */
+    public static ConversionContext newInstance() {
+        return new ConversionContext();
+    }
+
+    /**
+     * 获取属性，不存在时计算并保存；同一属性在一个上下文中只计算一次，并发访问时其余线程等待计算完成
+     * <p>
+     * 计算过程中可以访问上下文中的其他属性
+     * </p>
+     *
+     * @param key 属性名
+     * @param supplier 属性值计算
+     * @param <V> 属性值类型
+     * @return 属性值
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V computeIfAbsent(Object key, Supplier<? extends V> supplier) {
+        Objects.requireNonNull(supplier, "Supplier can not be null");
+        return (V) attributes.computeIfAbsent(key, k -> new Attribute(supplier)).get();
+    }
+
+    /**
+     * 获取属性
+     *
+     * @param key 属性名
+     * @param <V> 属性值类型
+     * @return 属性值，不存在时为null
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V getAttribute(Object key) {
+        Attribute attribute = attributes.get(key);
+        return Objects.isNull(attribute) ? null : (V) attribute.get();
+    }
+
+    /**
+     * 设置属性，覆盖已存在的值
+     *
+     * @param key 属性名
+     * @param value 属性值
+     */
+    public void setAttribute(Object key, Object value) {
+        attributes.put(key, new Attribute(() -> value));
+    }
+
+    long getStartNanos() {
+        return startNanos;
+    }
+
+    ConverterContext.RegistryScope getScope() {
+        return scope;
+    }
+
+    /**
+     * 延迟计算的属性值，计算在映射外进行，避免计算中访问上下文时阻塞映射
+     */
+    private static final class Attribute {
+
+        private Supplier<?> supplier;
+
+        private Object value;
+
+        Attribute(Supplier<?> supplier) {
+            this.supplier = supplier;
+        }
+
+        synchronized Object get() {
+            if (Objects.nonNull(supplier)) {
+                value = supplier.get();
+                supplier = null;
+            }
+            return value;
+        }
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 转换热点记录及预热
+ * <p>
+ * 开启记录后统计各源类、目标类组合的handler查找次数（每次批量转换查找一次），停止时按次数降序写入本地文件；
+ * 启动时读取该文件，预先查找并链接对应的handler，并可选地在后台线程中以无参构造的源对象调用声明了
+ * {@link com.github.liaochong.converter.annoation.ConvertWarmUp} 的转换方法若干次，使新实例更快达到稳定的响应时间
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+public final class ConversionProfile {
+
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * 各转换条件的查找次数，未开启记录时为null
+     */
+    private static volatile Map<Condition, LongAdder> counts;
+
+    private ConversionProfile() {
+    }
+
+    /**
+     * 开启记录
+     */
+    public static synchronized void startRecording() {
+        if (Objects.isNull(counts)) {
+            counts = new ConcurrentHashMap<>();
+        }
+    }
+
+    /**
+     * 是否已开启记录
+     *
+     * @return true/false
+     */
+    public static boolean isRecording() {
+        return Objects.nonNull(counts);
+    }
+
+    /**
+     * 记录一次查找
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     */
+    static void record(Class<?> sourceClass, Class<?> targetClass) {
+        Map<Condition, LongAdder> current = counts;
+        if (Objects.nonNull(current)) {
+            current.computeIfAbsent(Condition.newInstance(sourceClass, targetClass), c -> new LongAdder())
+                    .increment();
+        }
+    }
+
+    /**
+     * 将记录按查找次数降序写入文件，每行依次为源类、目标类及次数；未记录到任何转换时不覆盖已有文件
+     *
+     * @param file 文件
+     * @return 写入的转换条件数量
+     * @throws IOException 写入失败
+     */
+    public static int save(Path file) throws IOException {
+        Map<Condition, LongAdder> current = counts;
+        if (Objects.isNull(current) || current.isEmpty()) {
+            return 0;
+        }
+        List<Map.Entry<Condition, Long>> entries = new ArrayList<>();
+        current.forEach((condition, count) -> entries.add(new AbstractMap.SimpleImmutableEntry<>(
+                condition, count.sum())));
+        entries.sort(Map.Entry.<Condition, Long> comparingByValue().reversed());
+        if (Objects.nonNull(file.getParent())) {
+            Files.createDirectories(file.getParent());
+        }
+        try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            for (Map.Entry<Condition, Long> entry : entries) {
+                writer.write(entry.getKey().getSourceClass().getName() + SEPARATOR
+                        + entry.getKey().getTargetClass().getName() + SEPARATOR + entry.getValue());
+                writer.newLine();
+            }
+        }
+        log.info("Saved {} hot conversion pairs to \"{}\"", entries.size(), file);
+        return entries.size();
+    }
+
+    /**
+     * 读取文件，预先查找并链接其中记录的handler；无法加载的类或已不存在的转换方法忽略
+     *
+     * @param file 文件，不存在时不做处理
+     * @param invocations 每个允许预热调用的handler的调用次数，小于等于0时只链接不调用
+     * @param classLoader 加载源类、目标类的类加载器
+     * @return 链接的handler数量
+     * @throws IOException 读取失败
+     */
+    public static int warmUp(Path file, int invocations, ClassLoader classLoader) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return 0;
+        }
+        RegistrySnapshot snapshot = ConverterContext.getRegistry();
+        List<Condition> linked = new ArrayList<>();
+        for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+            String[] columns = line.split(SEPARATOR);
+            if (columns.length < 2) {
+                continue;
+            }
+            try {
+                Condition condition = Condition.newInstance(ClassUtils.forName(columns[0], classLoader),
+                        ClassUtils.forName(columns[1], classLoader));
+                if (Objects.nonNull(snapshot.resolveActionHandler(condition))) {
+                    linked.add(condition);
+                }
+            } catch (ClassNotFoundException | LinkageError e) {
+                log.debug("Skip hot conversion pair \"{}\"", line, e);
+            }
+        }
+        log.info("Linked {} hot conversion pairs from \"{}\"", linked.size(), file);
+        if (invocations <= 0) {
+            return linked.size();
+        }
+        List<Condition> invocable = linked.stream()
+                .filter(condition -> isInvocable(snapshot.resolveActionHandler(condition)))
+                .collect(Collectors.toList());
+        if (!invocable.isEmpty()) {
+            Thread thread = new Thread(() -> invoke(snapshot, invocable, invocations), "converter-warm-up");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            thread.start();
+        }
+        return linked.size();
+    }
+
+    /**
+     * 是否可以预热调用，需声明允许预热调用；声明了缓存或并发隔离的handler不调用，避免以空对象的结果污染缓存、占用并发许可
+     *
+     * @param handler handler
+     * @return true/false
+     */
+    private static boolean isInvocable(Handler handler) {
+        return handler.isWarmUp() && Objects.isNull(handler.getCache()) && Objects.isNull(handler.getBulkhead());
+    }
+
+    /**
+     * 预热调用，源对象由无参构造函数创建；不存在无参构造函数或调用失败时跳过该handler
+     *
+     * @param snapshot 链接时的注册表快照
+     * @param conditions 转换条件，按热度降序
+     * @param invocations 每个handler的调用次数
+     */
+    private static void invoke(RegistrySnapshot snapshot, List<Condition> conditions, int invocations) {
+        for (Condition condition : conditions) {
+            Handler handler = snapshot.resolveActionHandler(condition);
+            try {
+                Object source = BeanUtils.instantiateClass(condition.getSourceClass());
+                for (int i = 0; i < invocations; i++) {
+                    handler.invoke(source);
+                }
+            } catch (RuntimeException e) {
+                log.warn("Skip warming up \"{}\"", handler.getMethod(), e);
+            }
+        }
+        log.info("Warmed up {} hot conversion pairs", conditions.size());
+    }
+}
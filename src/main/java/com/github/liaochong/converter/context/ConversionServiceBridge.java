@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.ConditionalGenericConverter;
+import org.springframework.core.convert.converter.ConverterRegistry;
+
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.exception.NoConverterException;
+import com.github.liaochong.converter.utils.ClassUtil;
+
+/**
+ * Spring ConversionService桥接
+ * <p>
+ * 将全部转换方法作为ConditionalGenericConverter注册到Spring的ConversionService中，供数据绑定、@Value、Spring
+ * Data等使用；转换时按注册表分派到对应的handler。Spring只在注册时读取一次可转换类型，
+ * 因此通过 {@link #register(ConverterRegistry)} 注册的ConversionService在注册表变化时会补充声明新增的类型对，
+ * 已注销的类型对不再匹配。
+ * 桥接绑定创建时线程使用的注册表（固定的注册表或全局注册表），之后固定、取消固定其他注册表，
+ * 或其他线程的固定注册表变化，都不影响已注册的ConversionService
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class ConversionServiceBridge implements ConditionalGenericConverter {
+
+    /**
+     * 已注册的ConverterRegistry及其绑定，在类锁下读写
+     */
+    private static final Map<ConverterRegistry, Binding> REGISTRIES = new WeakHashMap<>();
+
+    private final Binding binding;
+
+    private final Set<ConvertiblePair> convertibleTypes;
+
+    private ConversionServiceBridge(Binding binding, Set<ConvertiblePair> convertibleTypes) {
+        this.binding = binding;
+        this.convertibleTypes = Collections.unmodifiableSet(new HashSet<>(convertibleTypes));
+    }
+
+    /**
+     * 静态工厂方法，绑定当前线程使用的注册表，声明其中当前的类型对，之后注册的类型对不会被声明
+     *
+     * @return ConversionServiceBridge
+     */
+    public static ConversionServiceBridge newInstance() {
+        Binding binding = new Binding(ConverterContext.currentScope());
+        return new ConversionServiceBridge(binding, binding.dispatch().handlers.keySet());
+    }
+
+    /**
+     * 注册到ConverterRegistry并绑定当前线程使用的注册表，同一ConverterRegistry只注册一次；之后该注册表变化时同步更新
+     *
+     * @param registry Spring的ConverterRegistry
+     * @return 是否注册，已注册过时为false
+     */
+    public static synchronized boolean register(ConverterRegistry registry) {
+        if (REGISTRIES.containsKey(registry)) {
+            return false;
+        }
+        Binding binding = new Binding(ConverterContext.currentScope());
+        binding.declared.addAll(binding.dispatch().handlers.keySet());
+        REGISTRIES.put(registry, binding);
+        registry.addConverter(new ConversionServiceBridge(binding, binding.declared));
+        return true;
+    }
+
+    /**
+     * 注册表变化后，向绑定该注册表的ConverterRegistry声明新增的类型对，并清空其匹配缓存
+     *
+     * @param scope 变化的固定注册表，为null时为全局注册表
+     */
+    static synchronized void registryChanged(ConverterContext.RegistryScope scope) {
+        REGISTRIES.forEach((registry, binding) -> {
+            if (binding.scope != scope) {
+                return;
+            }
+            Set<ConvertiblePair> added = binding.dispatch().handlers.keySet().stream()
+                    .filter(pair -> !binding.declared.contains(pair)).collect(Collectors.toSet());
+            if (added.isEmpty()) {
+                // Spring缓存了类型对的匹配结果，包括未匹配，移除不存在的类型对以清空缓存
+                registry.removeConvertible(ConversionServiceBridge.class, ConversionServiceBridge.class);
+                return;
+            }
+            binding.declared.addAll(added);
+            registry.addConverter(new ConversionServiceBridge(binding, added));
+        });
+    }
+
+    @Override
+    public Set<ConvertiblePair> getConvertibleTypes() {
+        return convertibleTypes;
+    }
+
+    @Override
+    public boolean matches(TypeDescriptor sourceType, TypeDescriptor targetType) {
+        return Objects.nonNull(binding.dispatch().resolve(sourceType.getObjectType(), targetType.getObjectType()));
+    }
+
+    /**
+     * 转换，转换方法中嵌套的转换同样使用绑定的注册表
+     *
+     * @throws ConvertException 转换异常
+     * @throws NoConverterException 转换方法已被注销
+     *
+     * @param source 被转换对象
+     * @param sourceType 源类型
+     * @param targetType 目标类型
+     * @return 结果
+     */
+    @Override
+    public Object convert(Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        Handler handler = binding.dispatch().resolve(sourceType.getObjectType(), targetType.getObjectType());
+        if (Objects.isNull(handler)) {
+            throw NoConverterException.of("The conversion method of matching \"" + sourceType.getObjectType()
+                    + " -> " + targetType.getObjectType() + "\" was not found");
+        }
+        return ConverterContext.callInScope(binding.scope, () -> handler.invoke(source));
+    }
+
+    /**
+     * 桥接绑定的注册表及已向ConverterRegistry声明的类型对
+     */
+    private static final class Binding {
+
+        /**
+         * 绑定的固定注册表，为null时为全局注册表
+         */
+        final ConverterContext.RegistryScope scope;
+
+        /**
+         * 已声明的类型对，在类锁下读写
+         */
+        final Set<ConvertiblePair> declared = new HashSet<>();
+
+        /**
+         * 分派表，注册表快照变化时重建
+         */
+        private volatile Dispatch dispatch = new Dispatch(RegistrySnapshot.EMPTY);
+
+        Binding(ConverterContext.RegistryScope scope) {
+            this.scope = scope;
+        }
+
+        Dispatch dispatch() {
+            Dispatch current = dispatch;
+            RegistrySnapshot snapshot = ConverterContext.getRegistry(scope);
+            if (current.snapshot != snapshot) {
+                current = new Dispatch(snapshot);
+                dispatch = current;
+            }
+            return current;
+        }
+    }
+
+    /**
+     * 类型对到handler的分派表，基本类型均以包装类型作为键，与Spring的类型匹配保持一致
+     */
+    private static final class Dispatch {
+
+        final RegistrySnapshot snapshot;
+
+        final Map<ConvertiblePair, Handler> handlers;
+
+        /**
+         * 按源类型的父类、接口匹配到的结果，包括未匹配；源类型或目标类型由其他类加载器加载时不缓存，避免阻止其卸载
+         */
+        final ConcurrentMap<ConvertiblePair, Optional<Handler>> resolved = new ConcurrentHashMap<>();
+
+        Dispatch(RegistrySnapshot snapshot) {
+            this.snapshot = snapshot;
+            Map<ConvertiblePair, Handler> map = new HashMap<>();
+            for (Handler handler : snapshot.getActionHandlers()) {
+                Method method = handler.getMethod();
+                map.putIfAbsent(new ConvertiblePair(ClassUtil.wrapperClass(method.getParameterTypes()[0]),
+                        ClassUtil.wrapperClass(method.getReturnType())), handler);
+            }
+            this.handlers = Collections.unmodifiableMap(map);
+        }
+
+        Handler resolve(Class<?> sourceClass, Class<?> targetClass) {
+            ConvertiblePair pair = new ConvertiblePair(sourceClass, targetClass);
+            Handler handler = handlers.get(pair);
+            if (Objects.nonNull(handler)) {
+                return handler;
+            }
+            Optional<Handler> result = resolved.get(pair);
+            if (Objects.nonNull(result)) {
+                return result.orElse(null);
+            }
+            handler = findBySourceHierarchy(pair);
+            if (ClassUtil.isCacheSafe(sourceClass) && ClassUtil.isCacheSafe(targetClass)) {
+                resolved.putIfAbsent(pair, Optional.ofNullable(handler));
+            }
+            return handler;
+        }
+
+        private Handler findBySourceHierarchy(ConvertiblePair pair) {
+            List<Class<?>> candidates = new ArrayList<>(ClassUtils.getAllSuperclasses(pair.getSourceType()));
+            candidates.addAll(ClassUtils.getAllInterfaces(pair.getSourceType()));
+            for (Class<?> candidate : candidates) {
+                Handler handler = handlers.get(new ConvertiblePair(candidate, pair.getTargetType()));
+                if (Objects.nonNull(handler)) {
+                    return handler;
+                }
+            }
+            return null;
+        }
+    }
+}
@@ -17,29 +17,46 @@ package com.github.liaochong.converter.context;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.function.Function;
+import java.util.function.IntConsumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.apache.commons.collections4.CollectionUtils;
 import org.apache.commons.collections4.MapUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotationUtils;
 
+import com.github.liaochong.converter.annoation.ConvertBulkhead;
+import com.github.liaochong.converter.annoation.ConvertCache;
+import com.github.liaochong.converter.annoation.ConvertFill;
+import com.github.liaochong.converter.annoation.ConvertJoin;
+import com.github.liaochong.converter.annoation.ConvertWarmUp;
 import com.github.liaochong.converter.annoation.Converter;
+import com.github.liaochong.converter.bulkhead.Bulkhead;
+import com.github.liaochong.converter.cache.CacheStats;
+import com.github.liaochong.converter.cache.ResultCache;
 import com.github.liaochong.converter.configuration.ConverterProperties;
+import com.github.liaochong.converter.context.ConverterStartupReport.Phase;
 import com.github.liaochong.converter.exception.ConverterDisabledException;
 import com.github.liaochong.converter.exception.InvalidConfigurationException;
 import com.github.liaochong.converter.exception.NoConverterException;
-import com.github.liaochong.converter.exception.NonUniqueConverterException;
+import com.github.liaochong.converter.jfr.JfrSupport;
 import com.github.liaochong.converter.utils.ClassUtil;
+import com.github.liaochong.converter.utils.ProxyUtil;
+import com.github.liaochong.converter.utils.ScanStatistics;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -51,17 +68,53 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public final class ConverterContext {
 
-    private static final Map<Condition, Handler> ACTION_MAP = new ConcurrentHashMap<>();
+    /**
+     * 全局注册表快照，读取无锁；修改时在REGISTRY_LOCK下复制出新快照后整体发布
+     */
+    private static volatile RegistrySnapshot registry = RegistrySnapshot.EMPTY;
+
+    private static final Object REGISTRY_LOCK = new Object();
+
+    /**
+     * 当前线程固定使用的注册表，未固定时使用全局注册表；不被子线程继承，并行转换时由调用线程传递给工作线程
+     */
+    private static final ThreadLocal<RegistryScope> SCOPE = new ThreadLocal<>();
 
     /**
      * 是否已经初始化标志
      */
-    private static boolean isInitialized = false;
+    private static volatile boolean isInitialized = false;
+
+    /**
+     * 是否已经注册静态转换方法
+     */
+    private static volatile boolean isStaticInitialized = false;
 
     /**
      * 是否开启starter标志，默认未启用
      */
-    private static boolean isDisable = true;
+    private static volatile boolean isDisable = true;
+
+    /**
+     * 是否创建无异常栈的NoConverterException、ConverterDisabledException；未启用starter时无法读取配置，可通过同名系统属性开启
+     */
+    private static volatile boolean isStackless = Boolean.getBoolean("bean.conversion.stackless-exceptions");
+
+    /**
+     * 是否对未被增强的转换方法直接调用被代理对象
+     */
+    private static volatile boolean isUnwrapProxies = false;
+
+    /**
+     * 未声明并发隔离的转换方法使用的默认配置
+     */
+    private static volatile ConverterProperties bulkheadDefaults = new ConverterProperties();
+
+    /**
+     * 非线程安全的转换对象的实例工厂，默认通过无参构造函数创建
+     */
+    private static volatile ConverterInstanceFactory instanceFactory = bean -> BeanUtils
+            .instantiateClass(ProxyUtil.getUserClass(bean));
 
     /**
      * 初始化上下文环境
@@ -70,6 +123,36 @@ public final class ConverterContext {
      * @param converterBeans spring扫描到的bean
      */
     public static void initialize(ConverterProperties converterProperties, Map<String, Object> converterBeans) {
+        initialize(converterProperties, converterBeans, new ConverterStartupReport());
+    }
+
+    /**
+     * 初始化上下文环境
+     *
+     * @param converterProperties 转换上下文属性对象
+     * @param converterBeans spring扫描到的bean
+     * @param report 启动报告，记录各阶段耗时及扫描统计
+     */
+    public static void initialize(ConverterProperties converterProperties, Map<String, Object> converterBeans,
+            ConverterStartupReport report) {
+        initialize(converterProperties, converterBeans, report, null);
+    }
+
+    /**
+     * 初始化上下文环境
+     *
+     * @param converterProperties 转换上下文属性对象
+     * @param converterBeans spring扫描到的bean
+     * @param report 启动报告，记录各阶段耗时及扫描统计
+     * @param converterInstanceFactory 非线程安全的转换对象的实例工厂，为null时使用无参构造函数创建
+     */
+    public static void initialize(ConverterProperties converterProperties, Map<String, Object> converterBeans,
+            ConverterStartupReport report, ConverterInstanceFactory converterInstanceFactory) {
+        // 当前线程固定了注册表时直接使用，如测试容器使用由指定转换类构建的注册表
+        if (isRegistryPinned()) {
+            log.info("Registry is pinned, skip scanning converters");
+            return;
+        }
         // 不允许使用该接口手动初始化
         if (isInitialized) {
             throw new UnsupportedOperationException(
@@ -77,24 +160,148 @@ public final class ConverterContext {
         }
 
         log.info("Checkout configurations");
-        checkProperties(converterProperties);
+        JfrSupport.recordPhase("checkProperties", () -> checkProperties(converterProperties));
         log.info("Start initialize conversion environment");
-        // 开启转换上下文标志
-        isDisable = false;
-        if (!converterProperties.isOnlyScanNonStaticMethod()) {
-            initStaticActionMap(converterProperties.getScanPackages());
+        configure(converterProperties);
+        if (Objects.nonNull(converterInstanceFactory)) {
+            instanceFactory = converterInstanceFactory;
         }
-        if (!converterProperties.isOnlyScanStaticMethod()) {
-            initNonStaticActionMap(converterBeans);
+        // 静态转换方法已在容器创建bean之前注册时，只注册转换bean
+        List<Handler> handlers = new ArrayList<>();
+        if (!isStaticInitialized) {
+            handlers.addAll(scanStaticHandlers(converterProperties, report));
         }
+        handlers.addAll(collectBeanHandlers(converterProperties, converterBeans, report));
+        RegistrySnapshot registered = runPhase(report, Phase.REGISTRATION,
+                () -> updateRegistry(snapshot -> snapshot.register(handlers)));
+        report.setHandlersLinked(report.getHandlersLinked() + handlers.size());
+        // 开启转换上下文标志
+        isDisable = false;
+
         // 严格模式下，必须存在转换器
-        boolean isStrictFail = converterProperties.isStrictMode() && MapUtils.isEmpty(ACTION_MAP);
+        boolean isStrictFail = converterProperties.isStrictMode() && registered.isEmpty();
         if (isStrictFail) {
             throw NoConverterException.of("There is no any converter exist");
         }
 
         isInitialized = true;
         log.info("Conversion environment initialization completed");
+        if (log.isDebugEnabled()) {
+            log.debug(report.format());
+        }
+    }
+
+    /**
+     * 扫描并注册静态转换方法，在容器创建bean之前调用，使@Value注入等容器刷新期间的转换可以使用静态转换方法；
+     * 之后初始化时只注册转换bean。已初始化或固定了注册表时不做处理
+     *
+     * @throws InvalidConfigurationException 配置不合法
+     * @throws com.github.liaochong.converter.exception.NonUniqueConverterException 转换条件重复
+     *
+     * @param converterProperties 转换上下文属性对象
+     * @param report 启动报告，记录各阶段耗时及扫描统计
+     */
+    public static void initializeStaticConverters(ConverterProperties converterProperties,
+            ConverterStartupReport report) {
+        if (isRegistryPinned()) {
+            log.info("Registry is pinned, skip scanning static converters");
+            return;
+        }
+        synchronized (ConverterContext.class) {
+            // 多个容器共享转换上下文时只扫描一次
+            if (isInitialized || isStaticInitialized) {
+                return;
+            }
+            checkProperties(converterProperties);
+            log.info("Start initialize static converters");
+            configure(converterProperties);
+            List<Handler> handlers = scanStaticHandlers(converterProperties, report);
+            runPhase(report, Phase.REGISTRATION, () -> updateRegistry(snapshot -> snapshot.register(handlers)));
+            report.setHandlersLinked(report.getHandlersLinked() + handlers.size());
+            isDisable = false;
+            isStaticInitialized = true;
+        }
+    }
+
+    /**
+     * 按配置扫描转换类并构建注册表，不会发布为当前使用的注册表，也不改变上下文状态
+     *
+     * @throws InvalidConfigurationException 配置不合法
+     * @throws com.github.liaochong.converter.exception.NonUniqueConverterException 转换条件重复
+     *
+     * @param converterProperties 转换上下文属性对象
+     * @param converterBeans spring扫描到的bean
+     * @param report 启动报告，记录各阶段耗时及扫描统计
+     * @return 注册表
+     */
+    public static RegistrySnapshot buildRegistry(ConverterProperties converterProperties,
+            Map<String, Object> converterBeans, ConverterStartupReport report) {
+        checkProperties(converterProperties);
+        List<Handler> handlers = new ArrayList<>(scanStaticHandlers(converterProperties, report));
+        handlers.addAll(collectBeanHandlers(converterProperties, converterBeans, report));
+        RegistrySnapshot snapshot = runPhase(report, Phase.REGISTRATION,
+                () -> RegistrySnapshot.EMPTY.register(handlers));
+        report.setHandlersLinked(report.getHandlersLinked() + handlers.size());
+        return snapshot;
+    }
+
+    /**
+     * 应用配置
+     *
+     * @param converterProperties 转换上下文属性对象
+     */
+    private static void configure(ConverterProperties converterProperties) {
+        if (converterProperties.isStacklessExceptions()) {
+            isStackless = true;
+        }
+        isUnwrapProxies = converterProperties.isUnwrapProxies();
+        bulkheadDefaults = converterProperties;
+    }
+
+    /**
+     * 扫描静态转换类并收集转换方法
+     *
+     * @param converterProperties 转换上下文属性对象
+     * @param report 启动报告
+     * @return handler列表
+     */
+    private static List<Handler> scanStaticHandlers(ConverterProperties converterProperties,
+            ConverterStartupReport report) {
+        if (converterProperties.isOnlyScanNonStaticMethod()) {
+            return Collections.emptyList();
+        }
+        Set<Class<?>> classes = scanClasses(converterProperties.getScanPackages(), report);
+        Set<Class<?>> staticConverterClasses = runPhase(report, Phase.FILTER, () -> filterConverterClass(classes));
+        if (CollectionUtils.isEmpty(staticConverterClasses)) {
+            log.warn("There is no any static conversion object");
+        }
+        report.setConverterClasses(report.getConverterClasses() + staticConverterClasses.size());
+        return runPhase(report, Phase.REFLECTION,
+                () -> collectHandlers(staticConverterClasses, Collections.emptyList(), report));
+    }
+
+    /**
+     * 收集转换bean的转换方法
+     *
+     * @param converterProperties 转换上下文属性对象
+     * @param converterBeans spring扫描到的bean
+     * @param report 启动报告
+     * @return handler列表
+     */
+    private static List<Handler> collectBeanHandlers(ConverterProperties converterProperties,
+            Map<String, Object> converterBeans, ConverterStartupReport report) {
+        Collection<Object> beans = Collections.emptyList();
+        if (!converterProperties.isOnlyScanStaticMethod()) {
+            if (MapUtils.isEmpty(converterBeans)) {
+                log.info("There is no any non-static conversion object");
+            } else {
+                beans = converterBeans.values();
+            }
+        }
+        report.setConverterClasses(report.getConverterClasses() + beans.size());
+        Collection<Object> finalBeans = beans;
+        return runPhase(report, Phase.REFLECTION,
+                () -> collectHandlers(Collections.emptySet(), finalBeans, report));
     }
 
     /**
@@ -111,94 +318,449 @@ public final class ConverterContext {
     }
 
     /**
-     * 初始化静态操作集合
+     * 执行初始化阶段，并记录耗时
+     *
+     * @param report 启动报告
+     * @param phase 阶段
+     * @param action 阶段操作
+     * @param <T> 返回值类型
+     * @return 阶段操作结果
+     */
+    private static <T> T runPhase(ConverterStartupReport report, Phase phase, Supplier<T> action) {
+        return JfrSupport.recordPhase(phase.name(), () -> report.time(phase, action));
+    }
+
+    /**
+     * 扫描类路径，各扫描路径并行扫描
      *
      * @param scanPackages 扫描路径集合
+     * @param report 启动报告
+     * @return 扫描到的类
      */
-    private static void initStaticActionMap(Set<String> scanPackages) {
-        Set<Class<?>> set;
-        if (CollectionUtils.isEmpty(scanPackages)) {
-            set = collectConverterClass(StringUtils.EMPTY);
-        } else {
-            Function<String, Stream<Class<?>>> function = scanPackage -> collectConverterClass(scanPackage).stream();
-            set = scanPackages.parallelStream().flatMap(function).collect(Collectors.toSet());
-        }
-        if (CollectionUtils.isEmpty(set)) {
-            log.warn("There is no any static conversion object");
-            return;
-        }
-        set.parallelStream().forEach(clz -> packagingAction(clz.getDeclaredMethods(), null));
+    private static Set<Class<?>> scanClasses(Set<String> scanPackages, ConverterStartupReport report) {
+        Set<String> packages = CollectionUtils.isEmpty(scanPackages) ? Collections.singleton(StringUtils.EMPTY)
+                : scanPackages;
+        long wallStart = System.nanoTime();
+        Set<Class<?>> classes = JfrSupport.recordPhase(Phase.SCAN.name(), () -> packages.parallelStream()
+                .flatMap(scanPackage -> scanPackage(scanPackage, report).stream()).collect(Collectors.toSet()));
+        // 扫描在多个线程中进行，CPU时间为各扫描路径之和
+        long cpuNanos = report.getPackages().stream().mapToLong(ScanStatistics::getCpuNanos)
+                .reduce(0, (a, b) -> a < 0 || b < 0 ? -1 : a + b);
+        report.record(Phase.SCAN, System.nanoTime() - wallStart, cpuNanos);
+        return classes;
     }
 
     /**
-     * 初始化非静态操作集合
-     * 
-     * @param converterBeans 转换对象
+     * 扫描单个路径
+     *
+     * @param scanPackage 扫描路径
+     * @param report 启动报告
+     * @return 扫描到的类
      */
-    private static void initNonStaticActionMap(Map<String, Object> converterBeans) {
-        if (MapUtils.isEmpty(converterBeans)) {
-            log.info("There is no any non-static conversion object");
-            return;
-        }
-        Stream<Object> objectStream = converterBeans.values().parallelStream();
-        objectStream.forEach(bean -> packagingAction(bean.getClass().getDeclaredMethods(), bean));
+    private static Set<Class<?>> scanPackage(String scanPackage, ConverterStartupReport report) {
+        ScanStatistics statistics = new ScanStatistics(scanPackage);
+        long cpuStart = ConverterStartupReport.currentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        Set<Class<?>> set = ClassUtil.getClassSet(scanPackage, statistics);
+        statistics.setWallNanos(System.nanoTime() - wallStart);
+        long cpuEnd = ConverterStartupReport.currentThreadCpuTime();
+        statistics.setCpuNanos(cpuStart < 0 || cpuEnd < 0 ? -1 : cpuEnd - cpuStart);
+        report.addPackage(statistics);
+        return set;
     }
 
     /**
-     * 收集转换对象
+     * 过滤转换对象
      *
+     * @param classes 扫描到的类
      * @return 列表集
      */
-    private static Set<Class<?>> collectConverterClass(String scanPackageName) {
-        Set<Class<?>> set = ClassUtil.getClassSet(scanPackageName);
-        if (CollectionUtils.isEmpty(set)) {
+    private static Set<Class<?>> filterConverterClass(Set<Class<?>> classes) {
+        if (CollectionUtils.isEmpty(classes)) {
             return Collections.emptySet();
         }
         Predicate<Class<?>> predicate = clazz -> clazz.isAnnotationPresent(Converter.class);
-        return set.parallelStream().filter(predicate).collect(Collectors.toSet());
+        return classes.stream().filter(predicate).collect(Collectors.toSet());
+    }
+
+    /**
+     * 收集转换方法
+     *
+     * @param staticConverterClasses 静态转换类
+     * @param converterBeans 转换对象
+     * @param report 启动报告
+     * @return handler列表
+     */
+    private static List<Handler> collectHandlers(Set<Class<?>> staticConverterClasses,
+            Collection<Object> converterBeans, ConverterStartupReport report) {
+        List<Handler> handlers = new ArrayList<>();
+        int methodsInspected = 0;
+        for (Class<?> clazz : staticConverterClasses) {
+            Method[] methods = clazz.getDeclaredMethods();
+            methodsInspected += methods.length;
+            handlers.addAll(packagingAction(methods, null));
+        }
+        for (Object bean : converterBeans) {
+            Method[] methods = ProxyUtil.getUserClass(bean).getDeclaredMethods();
+            methodsInspected += methods.length;
+            handlers.addAll(packagingAction(methods, bean));
+        }
+        report.setMethodsInspected(report.getMethodsInspected() + methodsInspected);
+        return handlers;
     }
 
     /**
      * 包装action
+     * <p>
+     * 转换对象为代理时，方法为用户类上的方法；开启解除代理且方法未被增强时直接调用被代理对象，JDK动态代理调用对应的接口方法
+     * </p>
      * 
      * @param methods 方法
-     * @param handlerBean 处理者
+     * @param handlerBean 处理者，静态方法为null
+     * @return handler列表
      */
-    private static void packagingAction(Method[] methods, Object handlerBean) {
+    static List<Handler> packagingAction(Method[] methods, Object handlerBean) {
         if (ArrayUtils.isEmpty(methods)) {
-            return;
+            return Collections.emptyList();
         }
-        // 参数唯一，且为public
+        Arrays.stream(methods).forEach(ConverterContext::checkDeclaration);
+        // 参数唯一或带转换上下文，或者为声明的填充方法、关联转换方法，且为public
         Predicate<Method> commonFilter = method -> Modifier.isPublic(method.getModifiers())
-                && method.getParameterCount() == 1
+                && (method.getParameterCount() == 1 || isContextualMethod(method) || isFillMethod(method)
+                        || isJoinMethod(method))
                 && Objects.isNull(handlerBean) == Modifier.isStatic(method.getModifiers());
+        if (Objects.isNull(handlerBean)) {
+            return Arrays.stream(methods).filter(commonFilter)
+                    .map(method -> Handler.newInstance(null, method, createResultCache(method), null,
+                            createBulkhead(method)))
+                    .collect(Collectors.toList());
+        }
 
-        Arrays.stream(methods).filter(commonFilter).forEach(method -> ConverterContext.setAction(method, handlerBean));
+        Class<?> userClass = ProxyUtil.getUserClass(handlerBean);
+        Converter converter = AnnotationUtils.findAnnotation(userClass, Converter.class);
+        // 非线程安全的转换对象，同一对象的各转换方法共享线程实例
+        ThreadLocal<Object> threadInstances = Objects.nonNull(converter) && !converter.threadSafe()
+                ? ThreadLocal.withInitial(() -> instanceFactory.newInstance(handlerBean)) : null;
+        Object rawTarget = isUnwrapProxies ? ProxyUtil.getUnwrappableTarget(handlerBean) : null;
+        List<Handler> handlers = new ArrayList<>();
+        for (Method method : methods) {
+            if (!commonFilter.test(method)) {
+                continue;
+            }
+            if (Objects.nonNull(threadInstances)) {
+                handlers.add(Handler.newInstance(handlerBean, method, createResultCache(method), threadInstances,
+                        createBulkhead(method)));
+                continue;
+            }
+            if (Objects.nonNull(rawTarget) && !ProxyUtil.isAdvised(handlerBean, method, userClass)) {
+                handlers.add(Handler.newInstance(rawTarget, method, createResultCache(method), null,
+                        createBulkhead(method)));
+                continue;
+            }
+            Method invocableMethod = userClass.isInstance(handlerBean) ? method
+                    : ProxyUtil.selectInvocableMethod(method, handlerBean.getClass());
+            if (Objects.isNull(invocableMethod)) {
+                log.warn("Method \"{}\" is not exposed by the proxy and will not be registered", method);
+                continue;
+            }
+            Handler handler = Handler.newInstance(handlerBean, invocableMethod, createResultCache(method), null,
+                    createBulkhead(method));
+            // 接口方法上没有用户类方法上的声明，按用户类方法分类
+            handler.setFill(isFillMethod(method));
+            handler.setJoin(isJoinMethod(method));
+            handler.setWarmUp(isWarmUpMethod(method));
+            handlers.add(handler);
+        }
+        return handlers;
     }
 
     /**
-     * 设置action
-     * 
+     * 是否为声明的填充方法，形如 {@code @ConvertFill void fill(S source, T target)}
+     *
+     * @param method 方法
+     * @return true/false
+     */
+    static boolean isFillMethod(Method method) {
+        return method.isAnnotationPresent(ConvertFill.class) && isFillSignature(method);
+    }
+
+    private static boolean isFillSignature(Method method) {
+        return method.getParameterCount() == 2 && method.getReturnType() == void.class
+                && method.getParameterTypes()[1] != ConversionContext.class;
+    }
+
+    /**
+     * 是否为声明的关联转换方法，形如 {@code @ConvertJoin T join(A first, B second)}
+     *
+     * @param method 方法
+     * @return true/false
+     */
+    static boolean isJoinMethod(Method method) {
+        return method.isAnnotationPresent(ConvertJoin.class) && isJoinSignature(method);
+    }
+
+    private static boolean isJoinSignature(Method method) {
+        return method.getParameterCount() == 2 && method.getReturnType() != void.class
+                && method.getParameterTypes()[1] != ConversionContext.class;
+    }
+
+    /**
+     * 是否允许预热调用，方法或所在类声明了 {@link ConvertWarmUp}
+     *
+     * @param method 方法
+     * @return true/false
+     */
+    static boolean isWarmUpMethod(Method method) {
+        return Objects.nonNull(AnnotationUtils.findAnnotation(method, ConvertWarmUp.class))
+                || Objects.nonNull(AnnotationUtils.findAnnotation(method.getDeclaringClass(), ConvertWarmUp.class));
+    }
+
+    /**
+     * 校验填充方法、关联转换方法的声明，避免声明的方法因签名不符被静默忽略
+     *
+     * @throws InvalidConfigurationException 声明的方法签名不符
+     *
+     * @param method 方法
+     */
+    private static void checkDeclaration(Method method) {
+        if (method.isAnnotationPresent(ConvertFill.class)
+                && !(Modifier.isPublic(method.getModifiers()) && isFillSignature(method))) {
+            throw InvalidConfigurationException.of("Method \"" + method
+                    + "\" annotated with @ConvertFill must be public, return void and have two parameters");
+        }
+        if (method.isAnnotationPresent(ConvertJoin.class)
+                && !(Modifier.isPublic(method.getModifiers()) && isJoinSignature(method))) {
+            throw InvalidConfigurationException.of("Method \"" + method
+                    + "\" annotated with @ConvertJoin must be public, return a value and have two parameters");
+        }
+    }
+
+    /**
+     * 是否为带转换上下文的转换方法，形如 {@code T convert(S source, ConversionContext context)}
+     *
+     * @param method 方法
+     * @return true/false
+     */
+    static boolean isContextualMethod(Method method) {
+        return method.getParameterCount() == 2 && method.getReturnType() != void.class
+                && method.getParameterTypes()[1] == ConversionContext.class;
+    }
+
+    /**
+     * 根据方法或类上的并发隔离声明创建并发隔离，未声明时使用配置中的默认值；填充方法、关联转换方法不做隔离
+     *
      * @param method 转换方法
-     * @param handlerBean 转换对象
+     * @return 并发隔离，不限制时为null
      */
-    private static void setAction(Method method, Object handlerBean) {
-        Class<?>[] paramTypes = method.getParameterTypes();
-        Class<?> returnType = method.getReturnType();
-        Condition condition = Condition.newInstance(paramTypes[0], returnType);
+    private static Bulkhead createBulkhead(Method method) {
+        if (method.getParameterCount() != 1 && !isContextualMethod(method)) {
+            return null;
+        }
+        ConvertBulkhead convertBulkhead = AnnotationUtils.findAnnotation(method, ConvertBulkhead.class);
+        if (Objects.isNull(convertBulkhead)) {
+            convertBulkhead = AnnotationUtils.findAnnotation(method.getDeclaringClass(), ConvertBulkhead.class);
+        }
+        if (Objects.nonNull(convertBulkhead)) {
+            return Bulkhead.of(method.toString(), convertBulkhead.maxConcurrency(), convertBulkhead.queuePolicy(),
+                    convertBulkhead.deadlineMillis());
+        }
+        ConverterProperties defaults = bulkheadDefaults;
+        return Bulkhead.of(method.toString(), defaults.getMaxConcurrency(), defaults.getQueuePolicy(),
+                defaults.getDeadlineMillis());
+    }
 
-        Handler existHandler = ACTION_MAP.get(condition);
-        if (Objects.nonNull(existHandler)) {
-            String message = "\n{method：" + method.getDeclaringClass().getName() + "." + method.getName()
-                    + "}\n{method：" + existHandler.getMethod().getDeclaringClass().getName() + "."
-                    + existHandler.getMethod().getName() + "} convert source and target is the same ";
-            throw NonUniqueConverterException.of(message);
+    /**
+     * 根据方法或类上的缓存声明创建转换结果缓存
+     *
+     * @param method 转换方法
+     * @return 缓存，未声明时为null
+     */
+    private static ResultCache createResultCache(Method method) {
+        if (method.getParameterCount() != 1) {
+            return null;
+        }
+        ConvertCache convertCache = AnnotationUtils.findAnnotation(method, ConvertCache.class);
+        if (Objects.isNull(convertCache)) {
+            convertCache = AnnotationUtils.findAnnotation(method.getDeclaringClass(), ConvertCache.class);
         }
+        if (Objects.isNull(convertCache)) {
+            return null;
+        }
+        return BeanUtils.instantiateClass(convertCache.factory()).create(convertCache);
+    }
 
-        log.info("Mapped \"{sourceClass = {},targetClass = {}}\" onto {}", condition.getSourceClass(), returnType,
-                method);
-        Handler handler = Handler.newInstance(handlerBean, method);
-        ACTION_MAP.put(condition, handler);
+    /**
+     * 更新注册表，基于当前快照生成新快照后整体发布，更新之间串行执行；当前线程固定了注册表时只更新固定的注册表
+     *
+     * @param updater 快照更新函数
+     * @return 新快照
+     */
+    static RegistrySnapshot updateRegistry(UnaryOperator<RegistrySnapshot> updater) {
+        RegistryScope scope = SCOPE.get();
+        RegistrySnapshot snapshot;
+        if (Objects.nonNull(scope)) {
+            synchronized (scope) {
+                snapshot = updater.apply(scope.registry);
+                scope.registry = snapshot;
+            }
+        } else {
+            synchronized (REGISTRY_LOCK) {
+                snapshot = updater.apply(registry);
+                registry = snapshot;
+            }
+        }
+        ConversionServiceBridge.registryChanged(scope);
+        return snapshot;
+    }
+
+    /**
+     * 获取当前线程使用的注册表快照
+     *
+     * @return 注册表快照
+     */
+    static RegistrySnapshot getRegistry() {
+        return getRegistry(SCOPE.get());
+    }
+
+    /**
+     * 获取指定固定注册表的当前快照
+     *
+     * @param scope 固定的注册表，为null时获取全局注册表
+     * @return 注册表快照
+     */
+    static RegistrySnapshot getRegistry(RegistryScope scope) {
+        return Objects.isNull(scope) ? registry : scope.registry;
+    }
+
+    /**
+     * 获取当前线程使用的注册表，可缓存后在其他容器中通过 {@link #pinRegistry(RegistrySnapshot)} 复用
+     *
+     * @return 注册表
+     */
+    public static RegistrySnapshot getCurrentRegistry() {
+        return getRegistry();
+    }
+
+    /**
+     * 当前线程固定使用指定的注册表并启用转换，其他线程不受影响，仍使用全局注册表；
+     * 固定期间当前线程初始化不再扫描，运行时注册、注销只作用于固定的注册表，不影响传入的注册表；
+     * 当前线程发起的并行转换在工作线程中同样使用固定的注册表
+     *
+     * @param snapshot 注册表
+     * @return 固定前当前线程使用的注册表
+     */
+    public static RegistrySnapshot pinRegistry(RegistrySnapshot snapshot) {
+        Objects.requireNonNull(snapshot, "Registry can not be null");
+        RegistrySnapshot previous = getRegistry();
+        SCOPE.set(new RegistryScope(snapshot));
+        return previous;
+    }
+
+    /**
+     * 取消当前线程的固定，恢复使用全局注册表
+     */
+    public static void unpinRegistry() {
+        SCOPE.remove();
+    }
+
+    /**
+     * 当前线程是否固定了注册表
+     *
+     * @return true/false
+     */
+    public static boolean isRegistryPinned() {
+        return Objects.nonNull(SCOPE.get());
+    }
+
+    /**
+     * 包装在其他线程中执行的操作，使其与当前线程使用同一注册表；当前线程未固定注册表时返回原操作
+     *
+     * @param action 操作
+     * @param <T> 返回值类型
+     * @return 包装后的操作
+     */
+    public static <T> Supplier<T> withCurrentRegistry(Supplier<T> action) {
+        RegistryScope scope = SCOPE.get();
+        return Objects.isNull(scope) ? action : () -> callInScope(scope, action);
+    }
+
+    /**
+     * 包装在其他线程中执行的按下标操作，使其与当前线程使用同一注册表；当前线程未固定注册表时返回原操作
+     *
+     * @param action 按下标操作
+     * @return 包装后的操作
+     */
+    public static IntConsumer withCurrentRegistry(IntConsumer action) {
+        RegistryScope scope = SCOPE.get();
+        return Objects.isNull(scope) ? action : i -> callInScope(scope, () -> {
+            action.accept(i);
+            return null;
+        });
+    }
+
+    /**
+     * 获取当前线程固定的注册表
+     *
+     * @return 固定的注册表，未固定时为null
+     */
+    static RegistryScope currentScope() {
+        return SCOPE.get();
+    }
+
+    /**
+     * 使用指定的固定注册表执行操作，执行后恢复当前线程原有的状态
+     *
+     * @param scope 固定的注册表，为null时使用全局注册表
+     * @param action 操作
+     * @param <T> 返回值类型
+     * @return 操作结果
+     */
+    static <T> T callInScope(RegistryScope scope, Supplier<T> action) {
+        RegistryScope current = SCOPE.get();
+        if (current == scope) {
+            return action.get();
+        }
+        setScope(scope);
+        try {
+            return action.get();
+        } finally {
+            setScope(current);
+        }
+    }
+
+    private static void setScope(RegistryScope scope) {
+        if (Objects.isNull(scope)) {
+            SCOPE.remove();
+        } else {
+            SCOPE.set(scope);
+        }
+    }
+
+    /**
+     * 校验starter是否启用，当前线程固定了注册表时视为启用
+     *
+     * @throws ConverterDisabledException starter未启用
+     */
+    static void checkEnabled() {
+        if (isDisabled()) {
+            throw ConverterDisabledException.of("@EnableConverter annotation not enabled", !isStackless);
+        }
+    }
+
+    private static boolean isDisabled() {
+        return isDisable && Objects.isNull(SCOPE.get());
+    }
+
+    /**
+     * 获取所有声明了缓存的转换方法的缓存统计
+     *
+     * @return 转换方法与缓存统计
+     */
+    public static Map<Method, CacheStats> getCacheStats() {
+        Map<Method, CacheStats> stats = new HashMap<>();
+        getRegistry().getActionHandlers().stream().filter(handler -> Objects.nonNull(handler.getCache()))
+                .forEach(handler -> stats.put(handler.getMethod(), handler.getCacheStats()));
+        return stats;
     }
 
     /**
@@ -209,17 +771,95 @@ public final class ConverterContext {
      * @return handler
      */
     public static Handler getActionHandler(Class<?> sourceClass, Class<?> targetClass) {
-        if (isDisable) {
-            throw ConverterDisabledException.of("@EnableConverter annotation not enabled");
+        checkEnabled();
+
+        Condition condition = Condition.newInstance(sourceClass, targetClass);
+        Handler handler = getRegistry().resolveActionHandler(condition);
+
+        if (Objects.isNull(handler)) {
+            throw NoConverterException.of("The conversion method of matching \"" + condition + "\" was not found",
+                    !isStackless);
+        }
+        ConversionProfile.record(sourceClass, targetClass);
+        return handler;
+    }
+
+    /**
+     * 根据源类以及目标类查找对应的handler，不抛出异常，用于探测是否可以转换
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     * @return handler，starter未启用或不存在时为null
+     */
+    public static Handler findActionHandler(Class<?> sourceClass, Class<?> targetClass) {
+        if (isDisabled()) {
+            return null;
+        }
+        Handler handler = getRegistry().resolveActionHandler(Condition.newInstance(sourceClass, targetClass));
+        if (Objects.nonNull(handler)) {
+            ConversionProfile.record(sourceClass, targetClass);
+        }
+        return handler;
+    }
+
+    /**
+     * 根据两个源类以及目标类获取对应的关联转换handler
+     *
+     * @param firstClass 第一个源类
+     * @param secondClass 第二个源类，未知时为null，此时第一个源类与目标类需唯一确定关联转换方法
+     * @param targetClass 目标类
+     * @return handler
+     */
+    public static Handler getJoinHandler(Class<?> firstClass, Class<?> secondClass, Class<?> targetClass) {
+        checkEnabled();
+
+        RegistrySnapshot snapshot = getRegistry();
+        if (Objects.nonNull(secondClass)) {
+            JoinCondition condition = JoinCondition.newInstance(firstClass, secondClass, targetClass);
+            Handler handler = snapshot.getJoinHandler(condition);
+            if (Objects.isNull(handler)) {
+                throw NoConverterException.of("The join method of matching \"" + condition + "\" was not found",
+                        !isStackless);
+            }
+            return handler;
+        }
+        List<Handler> handlers = snapshot.findJoinHandlers(firstClass, targetClass);
+        if (handlers.size() != 1) {
+            throw NoConverterException.of("The join method of matching \"" + firstClass + " -> " + targetClass
+                    + "\" was not found or is not unique", !isStackless);
         }
+        return handlers.get(0);
+    }
+
+    /**
+     * 根据源类以及被填充的目标类获取对应的填充handler，目标类为子类或代理类时按其父类、接口查找
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     * @return handler
+     */
+    public static Handler getFillHandler(Class<?> sourceClass, Class<?> targetClass) {
+        checkEnabled();
 
         Condition condition = Condition.newInstance(sourceClass, targetClass);
-        Handler handler = ACTION_MAP.get(condition);
+        Handler handler = getRegistry().resolveFillHandler(condition);
 
         if (Objects.isNull(handler)) {
-            throw NoConverterException.of("The conversion method of matching \"" + condition + "\" was not found");
+            throw NoConverterException.of("The fill method of matching \"" + condition + "\" was not found",
+                    !isStackless);
         }
         return handler;
     }
 
+    /**
+     * 线程固定的注册表，运行时注册、注销在其锁下更新
+     */
+    static final class RegistryScope {
+
+        volatile RegistrySnapshot registry;
+
+        RegistryScope(RegistrySnapshot registry) {
+            this.registry = registry;
+        }
+    }
 }
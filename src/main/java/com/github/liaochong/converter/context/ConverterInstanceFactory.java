@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+/**
+ * 转换对象实例工厂
+ * <p>
+ * 用于为非线程安全的转换对象（{@code @Converter(threadSafe = false)}）创建各线程独享的实例
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@FunctionalInterface
+public interface ConverterInstanceFactory {
+
+    /**
+     * 创建转换对象的新实例
+     *
+     * @param converterBean 注册的转换对象
+     * @return 新实例，需与注册的转换对象为同一用户类
+     */
+    Object newInstance(Object converterBean);
+}
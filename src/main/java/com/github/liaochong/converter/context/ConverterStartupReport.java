@@ -0,0 +1,268 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import com.github.liaochong.converter.utils.ScanStatistics;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * 转换上下文启动报告
+ * <p>
+ * 记录初始化各阶段的耗时以及扫描统计，用于依据数据调整扫描路径
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Getter
+@Setter(AccessLevel.PACKAGE)
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ConverterStartupReport {
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    /**
+     * 扫描的URL数量
+     */
+    long urlsScanned;
+
+    /**
+     * 扫描的jar条目数量
+     */
+    long jarEntriesScanned;
+
+    /**
+     * 加载的类数量
+     */
+    long classesLoaded;
+
+    /**
+     * 转换类数量，包括静态转换类以及转换bean
+     */
+    int converterClasses;
+
+    /**
+     * 检查的方法数量
+     */
+    int methodsInspected;
+
+    /**
+     * 注册的转换方法数量
+     */
+    int handlersLinked;
+
+    /**
+     * 各阶段耗时
+     */
+    final Map<Phase, PhaseTiming> phases = Collections.synchronizedMap(new EnumMap<>(Phase.class));
+
+    /**
+     * 各扫描路径统计
+     */
+    final List<ScanStatistics> packages = Collections.synchronizedList(new ArrayList<>());
+
+    /**
+     * 初始化阶段
+     */
+    public enum Phase {
+        /**
+         * 类路径扫描
+         */
+        SCAN,
+        /**
+         * 转换类过滤
+         */
+        FILTER,
+        /**
+         * 反射获取转换方法
+         */
+        REFLECTION,
+        /**
+         * 转换方法注册
+         */
+        REGISTRATION
+    }
+
+    /**
+     * 阶段耗时
+     */
+    @Getter
+    @FieldDefaults(level = AccessLevel.PRIVATE, makeFinal = true)
+    public static class PhaseTiming {
+
+        /**
+         * 耗时（纳秒）
+         */
+        long wallNanos;
+
+        /**
+         * 占用CPU时间（纳秒），不支持时为-1
+         */
+        long cpuNanos;
+
+        PhaseTiming(long wallNanos, long cpuNanos) {
+            this.wallNanos = wallNanos;
+            this.cpuNanos = cpuNanos;
+        }
+
+        /**
+         * 累计耗时
+         *
+         * @param other 另一次耗时
+         * @return 累计后的耗时
+         */
+        PhaseTiming plus(PhaseTiming other) {
+            long cpu = cpuNanos < 0 || other.cpuNanos < 0 ? -1 : cpuNanos + other.cpuNanos;
+            return new PhaseTiming(wallNanos + other.wallNanos, cpu);
+        }
+
+        @Override
+        public String toString() {
+            return "wall=" + TimeUnit.NANOSECONDS.toMillis(wallNanos) + "ms, cpu="
+                    + (cpuNanos < 0 ? "n/a" : TimeUnit.NANOSECONDS.toMillis(cpuNanos) + "ms");
+        }
+    }
+
+    /**
+     * 在当前线程执行阶段操作并记录耗时
+     *
+     * @param phase 阶段
+     * @param action 阶段操作
+     * @param <T> 返回值类型
+     * @return 阶段操作结果
+     */
+    <T> T time(Phase phase, Supplier<T> action) {
+        long cpuStart = currentThreadCpuTime();
+        long wallStart = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            long cpuEnd = currentThreadCpuTime();
+            long cpuNanos = cpuStart < 0 || cpuEnd < 0 ? -1 : cpuEnd - cpuStart;
+            record(phase, System.nanoTime() - wallStart, cpuNanos);
+        }
+    }
+
+    /**
+     * 记录阶段耗时，同一阶段多次执行时累计，如静态转换方法与转换bean分别注册
+     *
+     * @param phase 阶段
+     * @param wallNanos 耗时（纳秒）
+     * @param cpuNanos 占用CPU时间（纳秒）
+     */
+    void record(Phase phase, long wallNanos, long cpuNanos) {
+        phases.merge(phase, new PhaseTiming(wallNanos, cpuNanos), PhaseTiming::plus);
+    }
+
+    /**
+     * 添加扫描路径统计，并累计总数
+     *
+     * @param statistics 扫描统计
+     */
+    synchronized void addPackage(ScanStatistics statistics) {
+        packages.add(statistics);
+        urlsScanned += statistics.getUrlsScanned();
+        jarEntriesScanned += statistics.getJarEntriesScanned();
+        classesLoaded += statistics.getClassesLoaded();
+    }
+
+    /**
+     * 获取当前线程CPU时间
+     *
+     * @return CPU时间（纳秒），不支持时为-1
+     */
+    static long currentThreadCpuTime() {
+        if (!THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()) {
+            return -1;
+        }
+        return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+    }
+
+    /**
+     * 多行格式的报告，扫描路径按耗时倒序
+     *
+     * @return 报告
+     */
+    public String format() {
+        StringBuilder builder = new StringBuilder("Conversion environment startup report:");
+        builder.append("\n  urls scanned: ").append(urlsScanned).append(", jar entries scanned: ")
+                .append(jarEntriesScanned).append(", classes loaded: ").append(classesLoaded);
+        builder.append("\n  converter classes: ").append(converterClasses).append(", methods inspected: ")
+                .append(methodsInspected).append(", handlers linked: ").append(handlersLinked);
+        for (Phase phase : Phase.values()) {
+            PhaseTiming timing = phases.get(phase);
+            if (Objects.nonNull(timing)) {
+                builder.append("\n  phase ").append(phase).append(": ").append(timing);
+            }
+        }
+        List<ScanStatistics> sorted = getPackages();
+        sorted.sort(Comparator.comparingLong(ScanStatistics::getWallNanos).reversed());
+        for (ScanStatistics statistics : sorted) {
+            builder.append("\n  package \"").append(statistics.getPackageName()).append("\": ")
+                    .append(new PhaseTiming(statistics.getWallNanos(), statistics.getCpuNanos()))
+                    .append(", urls=").append(statistics.getUrlsScanned()).append(", jar entries=")
+                    .append(statistics.getJarEntriesScanned()).append(", classes=")
+                    .append(statistics.getClassesLoaded());
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 获取各扫描路径统计快照
+     *
+     * @return 扫描路径统计
+     */
+    public List<ScanStatistics> getPackages() {
+        synchronized (packages) {
+            return new ArrayList<>(packages);
+        }
+    }
+
+    /**
+     * 获取各阶段耗时快照
+     *
+     * @return 阶段耗时
+     */
+    public Map<Phase, PhaseTiming> getPhases() {
+        // EnumMap(Map)在源不是EnumMap且为空时抛出IllegalArgumentException
+        Map<Phase, PhaseTiming> copy = new EnumMap<>(Phase.class);
+        synchronized (phases) {
+            copy.putAll(phases);
+        }
+        return copy;
+    }
+
+    @Override
+    public String toString() {
+        return format();
+    }
+}
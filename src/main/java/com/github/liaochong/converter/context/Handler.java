@@ -15,7 +15,16 @@
  */
 package com.github.liaochong.converter.context;
 
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+import com.github.liaochong.converter.bulkhead.Bulkhead;
+import com.github.liaochong.converter.cache.CacheStats;
+import com.github.liaochong.converter.cache.ResultCache;
+import com.github.liaochong.converter.exception.ConvertException;
 
 import lombok.Data;
 
@@ -32,9 +41,71 @@ public class Handler {
 
     Method method;
 
-    private Handler(Object handler, Method method) {
+    /**
+     * 转换结果缓存，未声明缓存时为null
+     */
+    ResultCache cache;
+
+    /**
+     * 参数为long的方法的无装箱调用器
+     */
+    LongFunction<Object> longInvoker;
+
+    /**
+     * 参数为int的方法的无装箱调用器
+     */
+    IntFunction<Object> intInvoker;
+
+    /**
+     * 非线程安全的转换对象在各线程中的实例，线程安全时为null
+     */
+    ThreadLocal<Object> threadInstances;
+
+    /**
+     * 转换方法是否声明了转换上下文参数
+     */
+    boolean contextual;
+
+    /**
+     * 是否为填充方法
+     */
+    boolean fill;
+
+    /**
+     * 是否为关联转换方法
+     */
+    boolean join;
+
+    /**
+     * 是否允许预热调用
+     */
+    boolean warmUp;
+
+    /**
+     * 并发隔离，未限制时为null
+     */
+    Bulkhead bulkhead;
+
+    private Handler(Object handler, Method method, ResultCache cache, ThreadLocal<Object> threadInstances,
+            Bulkhead bulkhead) {
         this.handler = handler;
         this.method = method;
+        this.cache = cache;
+        this.threadInstances = threadInstances;
+        this.contextual = ConverterContext.isContextualMethod(method);
+        this.fill = ConverterContext.isFillMethod(method);
+        this.join = ConverterContext.isJoinMethod(method);
+        this.warmUp = ConverterContext.isWarmUpMethod(method);
+        this.bulkhead = bulkhead;
+        // 无装箱调用器绑定了转换对象，线程独享实例或并发隔离时使用反射调用
+        if (Objects.isNull(threadInstances) && Objects.isNull(bulkhead) && method.getParameterCount() == 1) {
+            Class<?> parameterType = method.getParameterTypes()[0];
+            if (parameterType == long.class) {
+                this.longInvoker = InvokerFactory.longFunction(handler, method);
+            } else if (parameterType == int.class) {
+                this.intInvoker = InvokerFactory.intFunction(handler, method);
+            }
+        }
     }
 
     /**
@@ -45,6 +116,205 @@ public class Handler {
      * @return Handler
      */
     public static Handler newInstance(Object handler, Method method) {
-        return new Handler(handler, method);
+        return new Handler(handler, method, null, null, null);
+    }
+
+    /**
+     * 静态工厂方法
+     *
+     * @param handler 处理者
+     * @param method 处理方法
+     * @param cache 转换结果缓存
+     * @return Handler
+     */
+    public static Handler newInstance(Object handler, Method method, ResultCache cache) {
+        return new Handler(handler, method, cache, null, null);
+    }
+
+    /**
+     * 静态工厂方法，用于非线程安全的转换对象
+     *
+     * @param handler 处理者
+     * @param method 处理方法
+     * @param cache 转换结果缓存
+     * @param threadInstances 处理者在各线程中的实例
+     * @return Handler
+     */
+    public static Handler newInstance(Object handler, Method method, ResultCache cache,
+            ThreadLocal<Object> threadInstances) {
+        return new Handler(handler, method, cache, threadInstances, null);
+    }
+
+    /**
+     * 静态工厂方法
+     *
+     * @param handler 处理者
+     * @param method 处理方法
+     * @param cache 转换结果缓存
+     * @param threadInstances 处理者在各线程中的实例，线程安全时为null
+     * @param bulkhead 并发隔离，未限制时为null
+     * @return Handler
+     */
+    public static Handler newInstance(Object handler, Method method, ResultCache cache,
+            ThreadLocal<Object> threadInstances, Bulkhead bulkhead) {
+        return new Handler(handler, method, cache, threadInstances, bulkhead);
+    }
+
+    /**
+     * 调用转换方法，声明了缓存时优先从缓存获取；参数为long或int的方法使用无装箱调用器
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换对象
+     * @return 结果
+     */
+    public Object invoke(Object source) {
+        if (contextual || Objects.nonNull(bulkhead)) {
+            return invoke(source, ConversionContext.newInstance());
+        }
+        return invokeDirect(source);
+    }
+
+    /**
+     * 在批量转换上下文中调用转换方法，方法未声明转换上下文参数时忽略上下文；声明了并发隔离时在并发限制及批量转换期限内调用；
+     * 并行转换时工作线程使用创建上下文的线程固定的注册表
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换对象
+     * @param context 批量转换上下文
+     * @return 结果
+     */
+    public Object invoke(Object source, ConversionContext context) {
+        if (Objects.nonNull(context.getScope())) {
+            return ConverterContext.callInScope(context.getScope(), () -> doInvoke(source, context));
+        }
+        return doInvoke(source, context);
+    }
+
+    private Object doInvoke(Object source, ConversionContext context) {
+        if (Objects.isNull(bulkhead)) {
+            return contextual ? invokeContextual(source, context) : invokeDirect(source);
+        }
+        return bulkhead.execute(context.getStartNanos(),
+                () -> contextual ? invokeContextual(source, context) : invokeDirect(source));
+    }
+
+    /**
+     * 以long为参数调用转换方法，方法参数为long且未声明缓存时不装箱
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换值
+     * @return 结果
+     */
+    public Object invokeLong(long source) {
+        if (Objects.isNull(longInvoker) || Objects.nonNull(cache)) {
+            return invoke(source);
+        }
+        try {
+            return longInvoker.apply(source);
+        } catch (Exception e) {
+            throw ConvertException.of("Call method \"" + method + "\" failed", e);
+        }
+    }
+
+    /**
+     * 以int为参数调用转换方法，方法参数为int且未声明缓存时不装箱
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换值
+     * @return 结果
+     */
+    public Object invokeInt(int source) {
+        if (Objects.isNull(intInvoker) || Objects.nonNull(cache)) {
+            return invoke(source);
+        }
+        try {
+            return intInvoker.apply(source);
+        } catch (Exception e) {
+            throw ConvertException.of("Call method \"" + method + "\" failed", e);
+        }
+    }
+
+    /**
+     * 调用关联转换方法
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param first 第一个源对象
+     * @param second 第二个源对象，可为null
+     * @return 结果
+     */
+    public Object join(Object first, Object second) {
+        try {
+            return method.invoke(target(), first, second);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw ConvertException.of("Call method \"" + method + "\" failed", e);
+        }
+    }
+
+    /**
+     * 调用填充方法，将源对象填充到目标对象
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 源对象
+     * @param target 被填充的目标对象
+     */
+    public void fill(Object source, Object target) {
+        try {
+            method.invoke(target(), source, target);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw ConvertException.of("Call method \"" + method + "\" failed", e);
+        }
+    }
+
+    /**
+     * 缓存统计
+     *
+     * @return 统计快照，未声明缓存时为null
+     */
+    public CacheStats getCacheStats() {
+        return Objects.isNull(cache) ? null : cache.stats();
+    }
+
+    /**
+     * 获取当前线程使用的处理者
+     *
+     * @return 处理者
+     */
+    private Object target() {
+        return Objects.isNull(threadInstances) ? handler : threadInstances.get();
+    }
+
+    private Object invokeDirect(Object source) {
+        if (Objects.isNull(cache)) {
+            if (Objects.nonNull(longInvoker) && source instanceof Long) {
+                return invokeLong((Long) source);
+            }
+            if (Objects.nonNull(intInvoker) && source instanceof Integer) {
+                return invokeInt((Integer) source);
+            }
+            return doInvoke(source);
+        }
+        return cache.get(source, this::doInvoke);
+    }
+
+    private Object invokeContextual(Object source, ConversionContext context) {
+        try {
+            return method.invoke(target(), source, context);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw ConvertException.of("Call method \"" + method + "\" failed", e);
+        }
+    }
+
+    private Object doInvoke(Object source) {
+        try {
+            return method.invoke(target(), source);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw ConvertException.of("Call method \"" + method + "\" failed", e);
+        }
     }
 }
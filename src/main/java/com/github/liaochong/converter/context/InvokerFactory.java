@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.function.IntFunction;
+import java.util.function.LongFunction;
+
+import org.apache.commons.lang3.ClassUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 调用器工厂
+ * <p>
+ * 使用LambdaMetafactory为转换方法生成函数式调用器，避免反射调用带来的装箱；
+ * 方法不可访问或对本框架的类加载器不可见时返回null，由调用方退化为反射调用
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+final class InvokerFactory {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private InvokerFactory() {
+    }
+
+    /**
+     * 为参数为long的方法生成调用器
+     *
+     * @param bean 方法所属对象，静态方法为null
+     * @param method 方法
+     * @return 调用器，无法生成时为null
+     */
+    @SuppressWarnings("unchecked")
+    static LongFunction<Object> longFunction(Object bean, Method method) {
+        return create(LongFunction.class, long.class, bean, method);
+    }
+
+    /**
+     * 为参数为int的方法生成调用器
+     *
+     * @param bean 方法所属对象，静态方法为null
+     * @param method 方法
+     * @return 调用器，无法生成时为null
+     */
+    @SuppressWarnings("unchecked")
+    static IntFunction<Object> intFunction(Object bean, Method method) {
+        return create(IntFunction.class, int.class, bean, method);
+    }
+
+    private static <F> F create(Class<F> functionType, Class<?> parameterType, Object bean, Method method) {
+        if (!isVisible(method)) {
+            return null;
+        }
+        try {
+            MethodHandle target = LOOKUP.unreflect(method);
+            boolean isStatic = Modifier.isStatic(method.getModifiers());
+            MethodType invokedType = isStatic ? MethodType.methodType(functionType)
+                    : MethodType.methodType(functionType, method.getDeclaringClass());
+            MethodType samType = MethodType.methodType(Object.class, parameterType);
+            MethodType instantiatedType = MethodType
+                    .methodType(ClassUtils.primitiveToWrapper(method.getReturnType()), parameterType);
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply", invokedType, samType, target,
+                    instantiatedType);
+            Object function = isStatic ? callSite.getTarget().invoke() : callSite.getTarget().invoke(bean);
+            return functionType.cast(function);
+        } catch (Throwable e) {
+            log.debug("Fall back to reflection for method \"{}\"", method, e);
+            return null;
+        }
+    }
+
+    /**
+     * 生成的调用器由本框架的类加载器定义，方法所属类及返回类型需对其可见
+     *
+     * @param method 方法
+     * @return true/false
+     */
+    private static boolean isVisible(Method method) {
+        ClassLoader classLoader = InvokerFactory.class.getClassLoader();
+        return Modifier.isPublic(method.getDeclaringClass().getModifiers())
+                && org.springframework.util.ClassUtils.isVisible(method.getDeclaringClass(), classLoader)
+                && org.springframework.util.ClassUtils.isVisible(method.getReturnType(), classLoader);
+    }
+}
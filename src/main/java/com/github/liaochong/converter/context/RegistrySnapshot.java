@@ -0,0 +1,337 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.ClassUtils;
+import org.springframework.beans.BeanUtils;
+
+import com.github.liaochong.converter.exception.NonUniqueConverterException;
+import com.github.liaochong.converter.utils.ClassUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 转换方法注册表快照
+ * <p>
+ * 快照创建后不可变，注册与注销均基于当前快照复制出新快照，读取方无需加锁；
+ * 可通过 {@link #of(Class[])} 由指定的转换类直接构建，无需扫描，并通过 {@link ConverterContext#pinRegistry(RegistrySnapshot)} 替换当前线程使用的注册表
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+public final class RegistrySnapshot {
+
+    static final RegistrySnapshot EMPTY = new RegistrySnapshot(Collections.emptyMap(), Collections.emptyMap(),
+            Collections.emptyMap());
+
+    /**
+     * 转换方法集合，条件为源类以及目标类
+     */
+    private final Map<Condition, Handler> actionMap;
+
+    /**
+     * 填充方法集合，条件为源类以及被填充的目标类
+     */
+    private final Map<Condition, Handler> fillActionMap;
+
+    /**
+     * 关联转换方法集合，条件为两个源类以及目标类
+     */
+    private final Map<JoinCondition, Handler> joinActionMap;
+
+    /**
+     * 按目标类的父类、接口解析到的填充方法，只缓存命中的结果，随快照一起失效
+     */
+    private final ConcurrentMap<Condition, Handler> resolvedFills = new ConcurrentHashMap<>();
+
+    /**
+     * 未直接命中的转换条件的解析结果，随快照一起失效；未找到的结果只缓存可长期缓存的类，见 {@link ClassUtil#isCacheSafe(Class)}
+     */
+    private final ConcurrentMap<Condition, Optional<Handler>> resolvedActions = new ConcurrentHashMap<>();
+
+    private RegistrySnapshot(Map<Condition, Handler> actionMap, Map<Condition, Handler> fillActionMap,
+            Map<JoinCondition, Handler> joinActionMap) {
+        this.actionMap = actionMap;
+        this.fillActionMap = fillActionMap;
+        this.joinActionMap = joinActionMap;
+    }
+
+    /**
+     * 由指定的转换类构建注册表，不扫描类路径；静态转换方法直接注册，存在非静态转换方法时通过无参构造函数创建实例后注册
+     *
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param converterClasses 转换类
+     * @return 注册表
+     */
+    public static RegistrySnapshot of(Class<?>... converterClasses) {
+        List<Handler> handlers = new ArrayList<>();
+        for (Class<?> converterClass : converterClasses) {
+            Objects.requireNonNull(converterClass, "ConverterClass can not be null");
+            Method[] methods = converterClass.getDeclaredMethods();
+            handlers.addAll(ConverterContext.packagingAction(methods, null));
+            boolean hasInstanceMethod = Arrays.stream(methods).anyMatch(method -> !Modifier.isStatic(
+                    method.getModifiers()) && Modifier.isPublic(method.getModifiers()));
+            if (hasInstanceMethod && !Modifier.isAbstract(converterClass.getModifiers())) {
+                handlers.addAll(ConverterContext.packagingAction(methods, BeanUtils.instantiateClass(converterClass)));
+            }
+        }
+        return EMPTY.register(handlers);
+    }
+
+    /**
+     * 空注册表
+     *
+     * @return 注册表
+     */
+    public static RegistrySnapshot empty() {
+        return EMPTY;
+    }
+
+    Handler getActionHandler(Condition condition) {
+        return actionMap.get(condition);
+    }
+
+    /**
+     * 解析转换handler，未直接命中时按基本类型与包装类型兼容查找，结果会被缓存；
+     * 未找到时，源类或目标类由其他类加载器加载则不缓存，避免阻止其卸载
+     *
+     * @param condition 转换条件
+     * @return handler，不存在时为null
+     */
+    Handler resolveActionHandler(Condition condition) {
+        Handler handler = actionMap.get(condition);
+        if (Objects.nonNull(handler)) {
+            return handler;
+        }
+        Optional<Handler> resolved = resolvedActions.get(condition);
+        if (Objects.nonNull(resolved)) {
+            return resolved.orElse(null);
+        }
+        // 命中时源类、目标类为handler的参数、返回值类型或其基本类型、包装类型，缓存不会额外持有类
+        handler = getBoxingCompatibleHandler(condition);
+        if (Objects.nonNull(handler) || ClassUtil.isCacheSafe(condition.getSourceClass())
+                && ClassUtil.isCacheSafe(condition.getTargetClass())) {
+            resolvedActions.putIfAbsent(condition, Optional.ofNullable(handler));
+        }
+        return handler;
+    }
+
+    /**
+     * 已缓存的解析结果数量
+     *
+     * @return 数量
+     */
+    int resolvedSize() {
+        return resolvedActions.size();
+    }
+
+    /**
+     * 基本类型与包装类型互相兼容，如long与Long
+     *
+     * @param condition 转换条件
+     * @return handler，不存在时为null
+     */
+    private Handler getBoxingCompatibleHandler(Condition condition) {
+        Class<?> sourceClass = condition.getSourceClass();
+        Class<?> targetClass = condition.getTargetClass();
+        Class<?> compatibleSourceClass = boxingCompatibleClass(sourceClass);
+        Class<?> compatibleTargetClass = boxingCompatibleClass(targetClass);
+        if (compatibleSourceClass == sourceClass && compatibleTargetClass == targetClass) {
+            return null;
+        }
+        Handler handler = actionMap.get(Condition.newInstance(compatibleSourceClass, targetClass));
+        if (Objects.isNull(handler)) {
+            handler = actionMap.get(Condition.newInstance(sourceClass, compatibleTargetClass));
+        }
+        if (Objects.isNull(handler)) {
+            handler = actionMap.get(Condition.newInstance(compatibleSourceClass, compatibleTargetClass));
+        }
+        return handler;
+    }
+
+    /**
+     * 获取基本类型对应的包装类型，或包装类型对应的基本类型
+     *
+     * @param clazz 类型
+     * @return 对应类型，不存在时返回自身
+     */
+    private static Class<?> boxingCompatibleClass(Class<?> clazz) {
+        if (clazz.isPrimitive()) {
+            return ClassUtils.primitiveToWrapper(clazz);
+        }
+        Class<?> primitive = ClassUtils.wrapperToPrimitive(clazz);
+        return Objects.isNull(primitive) ? clazz : primitive;
+    }
+
+    /**
+     * 解析填充handler，未直接命中时依次按目标类的父类、接口查找，如目标对象为子类或代理类
+     *
+     * @param condition 填充条件
+     * @return handler，不存在时为null
+     */
+    Handler resolveFillHandler(Condition condition) {
+        Handler handler = fillActionMap.get(condition);
+        if (Objects.nonNull(handler) || fillActionMap.isEmpty()) {
+            return handler;
+        }
+        handler = resolvedFills.get(condition);
+        if (Objects.nonNull(handler)) {
+            return handler;
+        }
+        Class<?> targetClass = condition.getTargetClass();
+        List<Class<?>> candidates = new ArrayList<>(ClassUtils.getAllSuperclasses(targetClass));
+        candidates.addAll(ClassUtils.getAllInterfaces(targetClass));
+        for (Class<?> candidate : candidates) {
+            handler = fillActionMap.get(Condition.newInstance(condition.getSourceClass(), candidate));
+            if (Objects.nonNull(handler)) {
+                resolvedFills.put(condition, handler);
+                return handler;
+            }
+        }
+        return null;
+    }
+
+    Handler getJoinHandler(JoinCondition condition) {
+        return joinActionMap.get(condition);
+    }
+
+    /**
+     * 按第一个源类及目标类查找关联handler，用于第二个源类未知的情况
+     *
+     * @param firstClass 第一个源类
+     * @param targetClass 目标类
+     * @return 满足条件的handler
+     */
+    List<Handler> findJoinHandlers(Class<?> firstClass, Class<?> targetClass) {
+        return joinActionMap.entrySet().stream()
+                .filter(entry -> entry.getKey().getFirstClass() == firstClass
+                        && entry.getKey().getTargetClass() == targetClass)
+                .map(Map.Entry::getValue).collect(Collectors.toList());
+    }
+
+    Collection<Handler> getActionHandlers() {
+        return actionMap.values();
+    }
+
+    /**
+     * 是否不存在任何转换方法
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return actionMap.isEmpty() && fillActionMap.isEmpty() && joinActionMap.isEmpty();
+    }
+
+    /**
+     * 注册handler，返回新快照，当前快照不变
+     *
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param handlers 转换处理对象
+     * @return 新快照
+     */
+    RegistrySnapshot register(Collection<Handler> handlers) {
+        Map<Condition, Handler> newActionMap = new HashMap<>(actionMap);
+        Map<Condition, Handler> newFillActionMap = new HashMap<>(fillActionMap);
+        Map<JoinCondition, Handler> newJoinActionMap = new HashMap<>(joinActionMap);
+        for (Handler handler : handlers) {
+            Method method = handler.getMethod();
+            Class<?>[] paramTypes = method.getParameterTypes();
+            if (handler.isJoin()) {
+                JoinCondition condition = JoinCondition.newInstance(paramTypes[0], paramTypes[1],
+                        method.getReturnType());
+                checkUnique(newJoinActionMap.get(condition), method);
+                log.info("Mapped \"{firstClass = {},secondClass = {},targetClass = {}}\" onto {}", paramTypes[0],
+                        paramTypes[1], method.getReturnType(), method);
+                newJoinActionMap.put(condition, handler);
+                continue;
+            }
+            boolean isFill = handler.isFill();
+            Class<?> returnType = isFill ? paramTypes[1] : method.getReturnType();
+            Condition condition = Condition.newInstance(paramTypes[0], returnType);
+            Map<Condition, Handler> map = isFill ? newFillActionMap : newActionMap;
+            checkUnique(map.get(condition), method);
+
+            log.info("Mapped \"{sourceClass = {},targetClass = {}}\" onto {}", condition.getSourceClass(), returnType,
+                    method);
+            map.put(condition, handler);
+        }
+        return new RegistrySnapshot(Collections.unmodifiableMap(newActionMap),
+                Collections.unmodifiableMap(newFillActionMap), Collections.unmodifiableMap(newJoinActionMap));
+    }
+
+    /**
+     * 校验转换条件唯一
+     *
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param existHandler 已注册的handler
+     * @param method 待注册的方法
+     */
+    private static void checkUnique(Handler existHandler, Method method) {
+        if (Objects.nonNull(existHandler)) {
+            String message = "\n{method：" + method.getDeclaringClass().getName() + "." + method.getName()
+                    + "}\n{method：" + existHandler.getMethod().getDeclaringClass().getName() + "."
+                    + existHandler.getMethod().getName() + "} convert source and target is the same ";
+            throw NonUniqueConverterException.of(message);
+        }
+    }
+
+    /**
+     * 注销满足条件的handler，返回新快照，当前快照不变
+     *
+     * @param predicate 注销条件
+     * @return 新快照
+     */
+    RegistrySnapshot unregister(Predicate<Handler> predicate) {
+        Map<Condition, Handler> newActionMap = new HashMap<>(actionMap);
+        Map<Condition, Handler> newFillActionMap = new HashMap<>(fillActionMap);
+        Map<JoinCondition, Handler> newJoinActionMap = new HashMap<>(joinActionMap);
+        newActionMap.values().removeIf(predicate);
+        newFillActionMap.values().removeIf(predicate);
+        newJoinActionMap.values().removeIf(predicate);
+        return new RegistrySnapshot(Collections.unmodifiableMap(newActionMap),
+                Collections.unmodifiableMap(newFillActionMap), Collections.unmodifiableMap(newJoinActionMap));
+    }
+
+    /**
+     * handler数量
+     *
+     * @return 数量
+     */
+    public int size() {
+        return actionMap.size() + fillActionMap.size() + joinActionMap.size();
+    }
+}
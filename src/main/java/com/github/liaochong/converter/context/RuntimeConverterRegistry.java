@@ -0,0 +1,119 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+import com.github.liaochong.converter.exception.ConverterDisabledException;
+import com.github.liaochong.converter.exception.NonUniqueConverterException;
+import com.github.liaochong.converter.utils.ProxyUtil;
+
+/**
+ * 转换方法运行时注册表
+ * <p>
+ * 用于在启动后注册或注销转换方法，如运行时加载的插件、租户模块；
+ * 每次注册或注销都会发布一个新的不可变快照，转换过程中的查找无锁且不会看到部分注册的状态
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class RuntimeConverterRegistry {
+
+    private RuntimeConverterRegistry() {
+    }
+
+    /**
+     * 注册转换类中的静态转换方法，任一转换条件与已有方法重复时整体不注册
+     *
+     * @throws ConverterDisabledException starter未启用
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param converterClass 转换类
+     * @return 注册的方法数量
+     */
+    public static int register(Class<?> converterClass) {
+        Objects.requireNonNull(converterClass, "ConverterClass can not be null");
+        return register(ConverterContext.packagingAction(converterClass.getDeclaredMethods(), null));
+    }
+
+    /**
+     * 注册转换对象中的非静态转换方法，任一转换条件与已有方法重复时整体不注册
+     *
+     * @throws ConverterDisabledException starter未启用
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param converterBean 转换对象
+     * @return 注册的方法数量
+     */
+    public static int register(Object converterBean) {
+        Objects.requireNonNull(converterBean, "ConverterBean can not be null");
+        Method[] methods = ProxyUtil.getUserClass(converterBean).getDeclaredMethods();
+        return register(ConverterContext.packagingAction(methods, converterBean));
+    }
+
+    /**
+     * 注销转换类中的静态转换方法
+     *
+     * @throws ConverterDisabledException starter未启用
+     *
+     * @param converterClass 转换类
+     * @return 注销的方法数量
+     */
+    public static int unregister(Class<?> converterClass) {
+        Objects.requireNonNull(converterClass, "ConverterClass can not be null");
+        return unregister(handler -> Objects.isNull(handler.getHandler())
+                && handler.getMethod().getDeclaringClass() == converterClass);
+    }
+
+    /**
+     * 注销转换对象中的非静态转换方法
+     *
+     * @throws ConverterDisabledException starter未启用
+     *
+     * @param converterBean 转换对象
+     * @return 注销的方法数量
+     */
+    public static int unregister(Object converterBean) {
+        Objects.requireNonNull(converterBean, "ConverterBean can not be null");
+        Object rawTarget = ProxyUtil.getUnwrappableTarget(converterBean);
+        return unregister(handler -> Objects.nonNull(handler.getHandler())
+                && (handler.getHandler() == converterBean || handler.getHandler() == rawTarget));
+    }
+
+    private static int register(List<Handler> handlers) {
+        ConverterContext.checkEnabled();
+        if (handlers.isEmpty()) {
+            return 0;
+        }
+        ConverterContext.updateRegistry(snapshot -> snapshot.register(handlers));
+        return handlers.size();
+    }
+
+    private static int unregister(Predicate<Handler> predicate) {
+        ConverterContext.checkEnabled();
+        int[] removed = new int[1];
+        ConverterContext.updateRegistry(snapshot -> {
+            RegistrySnapshot newSnapshot = snapshot.unregister(predicate);
+            removed[0] = snapshot.size() - newSnapshot.size();
+            return newSnapshot;
+        });
+        return removed[0];
+    }
+}
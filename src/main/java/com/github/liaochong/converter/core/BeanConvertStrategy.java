@@ -15,13 +15,16 @@
  */
 package com.github.liaochong.converter.core;
 
-import java.lang.reflect.InvocationTargetException;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import com.github.liaochong.converter.context.ConverterContext;
 import com.github.liaochong.converter.context.Handler;
 import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.jfr.ConvertBeanEvent;
+import com.github.liaochong.converter.jfr.JfrSupport;
+import com.github.liaochong.converter.utils.ClassUtil;
 import com.github.liaochong.converter.utils.SupplierUtil;
 import lombok.extern.slf4j.Slf4j;
 
@@ -68,13 +71,69 @@ class BeanConvertStrategy {
         if (Objects.isNull(source)) {
             return SupplierUtil.ifNonNullThrowOrElse(exceptionSupplier, () -> null);
         }
-        Handler handler = ConverterContext.getActionHandler(source.getClass(), targetClass);
-        log.info("Call method \"{}\"", handler.getMethod());
+        if (!JfrSupport.isAvailable()) {
+            return doConvertBean(source, targetClass);
+        }
+        ConvertBeanEvent event = new ConvertBeanEvent();
+        event.begin();
         try {
-            return targetClass.cast(handler.getMethod().invoke(handler.getHandler(), source));
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw ConvertException.of("Call method \"" + handler.getMethod() + "\" failed", e);
+            return doConvertBean(source, targetClass);
+        } finally {
+            event.end(source.getClass(), targetClass);
+        }
+    }
+
+    /**
+     * 单个Bean尝试转换，不存在对应的转换方法时返回空，不抛出异常
+     *
+     * @throws ConvertException 转换方法执行异常
+     *
+     * @param source 被转换对象
+     * @param targetClass 需要转换到的类型
+     * @param <T> 转换前的类型
+     * @param <U> 转换后的类型
+     * @return 结果
+     */
+    public static <T, U> Optional<U> tryConvertBean(T source, Class<U> targetClass) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (Objects.isNull(source)) {
+            return Optional.empty();
         }
+        Handler handler = ConverterContext.findActionHandler(source.getClass(), targetClass);
+        if (Objects.isNull(handler)) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(ClassUtil.wrapperClass(targetClass).cast(handler.invoke(source)));
+    }
+
+    /**
+     * 是否存在对应的转换方法
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     * @return true/false
+     */
+    public static boolean canConvert(Class<?> sourceClass, Class<?> targetClass) {
+        Objects.requireNonNull(sourceClass, "SourceClass can not be null");
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        return Objects.nonNull(ConverterContext.findActionHandler(sourceClass, targetClass));
+    }
+
+    /**
+     * 单个Bean转换实现
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换对象，非null
+     * @param targetClass 需要转换到的类型
+     * @param <T> 转换前的类型
+     * @param <U> 转换后的类型
+     * @return 结果
+     */
+    private static <T, U> U doConvertBean(T source, Class<U> targetClass) {
+        Handler handler = ConverterContext.getActionHandler(source.getClass(), targetClass);
+        log.info("Call method \"{}\"", handler.getMethod());
+        return ClassUtil.wrapperClass(targetClass).cast(handler.invoke(source));
     }
 
 }
@@ -15,7 +15,15 @@
  */
 package com.github.liaochong.converter.core;
 
+import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 /**
@@ -113,6 +121,138 @@ public final class BeanConverter {
         return BeansConvertStrategy.parallelConvertBeans(source, targetClass, true);
     }
 
+    /**
+     * 集合去重转换，同一引用的源对象只转换一次，重复出现时共享同一个转换结果
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> List<E> dedupConvert(List<T> source, Class<E> targetClass) {
+        return BeansConvertStrategy.dedupConvertBeans(source, targetClass, false);
+    }
+
+    /**
+     * 集合去重并行转换，同一引用的源对象只转换一次，重复出现时共享同一个转换结果
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> List<E> parallelDedupConvert(List<T> source, Class<E> targetClass) {
+        return BeansConvertStrategy.dedupConvertBeans(source, targetClass, true);
+    }
+
+    /**
+     * 任意Collection转换，结果为列表
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> List<E> convertCollection(Collection<T> source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertCollection(source, targetClass, false);
+    }
+
+    /**
+     * 任意Collection并行转换，结果为列表
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> List<E> parallelConvertCollection(Collection<T> source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertCollection(source, targetClass, true);
+    }
+
+    /**
+     * Set转换
+     *
+     * @param source 需要转换的Set
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> Set<E> convertSet(Set<T> source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertSet(source, targetClass, false);
+    }
+
+    /**
+     * Set并行转换
+     *
+     * @param source 需要转换的Set
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> Set<E> parallelConvertSet(Set<T> source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertSet(source, targetClass, true);
+    }
+
+    /**
+     * Map值转换，键保持不变
+     *
+     * @param source 需要转换的Map
+     * @param targetClass 值需要转换到的类型
+     * @param <K> 键类型
+     * @param <E> 转换后的值类型
+     * @param <V> 转换前的值类型
+     * @return 结果
+     */
+    public static <K, E, V> Map<K, E> convertValues(Map<K, V> source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertMap(source, targetClass, false);
+    }
+
+    /**
+     * Map值并行转换，键保持不变
+     *
+     * @param source 需要转换的Map
+     * @param targetClass 值需要转换到的类型
+     * @param <K> 键类型
+     * @param <E> 转换后的值类型
+     * @param <V> 转换前的值类型
+     * @return 结果
+     */
+    public static <K, E, V> Map<K, E> parallelConvertValues(Map<K, V> source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertMap(source, targetClass, true);
+    }
+
+    /**
+     * 数组转换
+     *
+     * @param source 需要转换的数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> E[] convertArray(T[] source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertArray(source, targetClass, false);
+    }
+
+    /**
+     * 数组并行转换
+     *
+     * @param source 需要转换的数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> E[] parallelConvertArray(T[] source, Class<E> targetClass) {
+        return CollectionConvertStrategy.convertArray(source, targetClass, true);
+    }
+
     /**
      * 单个Bean转换
      *
@@ -142,4 +282,516 @@ public final class BeanConverter {
         return BeanConvertStrategy.convertBean(source, targetClass, exceptionSupplier);
     }
 
+    /**
+     * 单个Bean尝试转换，不存在对应的转换方法时返回空，不抛出异常
+     *
+     * @param source 被转换对象
+     * @param targetClass 需要转换到的类型
+     * @param <T> 转换前的类型
+     * @param <U> 转换后的类型
+     * @return 结果，源对象为null、转换结果为null或不存在转换方法时为空
+     */
+    public static <T, U> Optional<U> tryConvert(T source, Class<U> targetClass) {
+        return BeanConvertStrategy.tryConvertBean(source, targetClass);
+    }
+
+    /**
+     * 是否存在源类到目标类的转换方法
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     * @return true/false
+     */
+    public static boolean canConvert(Class<?> sourceClass, Class<?> targetClass) {
+        return BeanConvertStrategy.canConvert(sourceClass, targetClass);
+    }
+
+    /**
+     * long值转换，参数为long的转换方法调用时不装箱；与 {@link #convert(Object, Class)} 区分命名，
+     * 避免short、byte、char等基本类型的源被拓宽为long或int后匹配到错误的转换方法
+     *
+     * @param source 被转换值
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E convertLong(long source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertLong(source, targetClass);
+    }
+
+    /**
+     * int值转换，参数为int的转换方法调用时不装箱
+     *
+     * @param source 被转换值
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E convertInt(int source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertInt(source, targetClass);
+    }
+
+    /**
+     * long数组转换为集合，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> convertToList(long[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertLongs(source, targetClass, false);
+    }
+
+    /**
+     * long数组并行转换为集合，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> parallelConvertToList(long[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertLongs(source, targetClass, true);
+    }
+
+    /**
+     * long数组转换为数组，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E[] convertToArray(long[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertLongsToArray(source, targetClass, false);
+    }
+
+    /**
+     * long数组并行转换为数组，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E[] parallelConvertToArray(long[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertLongsToArray(source, targetClass, true);
+    }
+
+    /**
+     * int数组转换为集合，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> convertToList(int[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertInts(source, targetClass, false);
+    }
+
+    /**
+     * int数组并行转换为集合，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> parallelConvertToList(int[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertInts(source, targetClass, true);
+    }
+
+    /**
+     * int数组转换为数组，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E[] convertToArray(int[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertIntsToArray(source, targetClass, false);
+    }
+
+    /**
+     * int数组并行转换为数组，元素不装箱
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E[] parallelConvertToArray(int[] source, Class<E> targetClass) {
+        return PrimitiveConvertStrategy.convertIntsToArray(source, targetClass, true);
+    }
+
+    /**
+     * 将源对象填充到已有的目标对象，需存在形如 {@code void fill(S source, T target)} 的填充方法
+     *
+     * @param source 源对象，为null时不填充
+     * @param target 被填充的目标对象
+     * @param <T> 源类型
+     * @param <E> 目标类型
+     * @return 目标对象
+     */
+    public static <T, E> E convertInto(T source, E target) {
+        return FillConvertStrategy.fillBean(source, target);
+    }
+
+    /**
+     * 集合填充，源集合与目标集合按下标一一对应，用于复用目标对象
+     *
+     * @param source 源集合
+     * @param targets 被填充的目标集合，大小需与源集合一致
+     * @param <T> 源类型
+     * @param <E> 目标类型
+     * @return 目标集合
+     */
+    public static <T, E> List<E> convertInto(List<T> source, List<E> targets) {
+        return FillConvertStrategy.fillBeans(source, targets);
+    }
+
+    /**
+     * 集合填充，目标对象由提供者提供，如从对象池中获取
+     *
+     * @param source 源集合
+     * @param targetClass 目标类型
+     * @param targetSupplier 目标对象提供者
+     * @param <T> 源类型
+     * @param <E> 目标类型
+     * @return 结果
+     */
+    public static <T, E> List<E> convertInto(List<T> source, Class<E> targetClass,
+            Supplier<? extends E> targetSupplier) {
+        return FillConvertStrategy.fillBeans(source, targetClass, targetSupplier);
+    }
+
+    /**
+     * 分块转换，逐块从迭代器拉取并转换，结果按块交给消费者，不汇总全部结果
+     *
+     * @param source 源迭代器，如JDBC游标
+     * @param targetClass 需要转换到的类型
+     * @param chunkSize 块大小
+     * @param consumer 每块转换结果的消费者
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 转换的元素总数
+     */
+    public static <E, T> long convertInChunks(Iterator<? extends T> source, Class<E> targetClass, int chunkSize,
+            Consumer<? super List<E>> consumer) {
+        return ChunkConvertStrategy.convertChunks(source, targetClass, chunkSize, 1, consumer);
+    }
+
+    /**
+     * 分块并行转换，多个块同时转换，消费者仍按块的顺序在调用线程中调用
+     *
+     * @param source 源迭代器，只在调用线程中访问
+     * @param targetClass 需要转换到的类型
+     * @param chunkSize 块大小
+     * @param maxInFlight 同时转换的最大块数，也是内存中同时持有的最大源块数
+     * @param consumer 每块转换结果的消费者
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 转换的元素总数
+     */
+    public static <E, T> long parallelConvertInChunks(Iterator<? extends T> source, Class<E> targetClass,
+            int chunkSize, int maxInFlight, Consumer<? super List<E>> consumer) {
+        return ChunkConvertStrategy.convertChunks(source, targetClass, chunkSize, maxInFlight, consumer);
+    }
+
+    /**
+     * 分页转换，逐页拉取并转换，返回null或空页时结束
+     *
+     * @param pageSupplier 分页提供者，如按Pageable逐页查询
+     * @param targetClass 需要转换到的类型
+     * @param consumer 每页转换结果的消费者
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 转换的元素总数
+     */
+    public static <E, T> long convertPages(Supplier<? extends List<T>> pageSupplier, Class<E> targetClass,
+            Consumer<? super List<E>> consumer) {
+        return ChunkConvertStrategy.convertPages(pageSupplier, targetClass, 1, consumer);
+    }
+
+    /**
+     * 分页并行转换，多页同时转换，消费者仍按页的顺序在调用线程中调用
+     *
+     * @param pageSupplier 分页提供者，只在调用线程中调用
+     * @param targetClass 需要转换到的类型
+     * @param maxInFlight 同时转换的最大页数，也是内存中同时持有的最大源页数
+     * @param consumer 每页转换结果的消费者
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 转换的元素总数
+     */
+    public static <E, T> long parallelConvertPages(Supplier<? extends List<T>> pageSupplier, Class<E> targetClass,
+            int maxInFlight, Consumer<? super List<E>> consumer) {
+        return ChunkConvertStrategy.convertPages(pageSupplier, targetClass, maxInFlight, consumer);
+    }
+
+    /**
+     * 转换并以键建立Map，只遍历一次，键重复时抛出IllegalStateException，键为null时抛出NullPointerException
+     *
+     * @param source 被转换集合，null元素会被忽略
+     * @param targetClass 需要转换到的类型
+     * @param keyMapper 从转换结果中获取键
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <K, E, T> Map<K, E> convertToMap(Collection<T> source, Class<E> targetClass,
+            Function<? super E, ? extends K> keyMapper) {
+        return IndexConvertStrategy.convertToMap(source, targetClass, keyMapper, false);
+    }
+
+    /**
+     * 并行转换并以键建立Map，只遍历一次，键重复时抛出IllegalStateException，键为null时抛出NullPointerException
+     *
+     * @param source 被转换集合，null元素会被忽略
+     * @param targetClass 需要转换到的类型
+     * @param keyMapper 从转换结果中获取键
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <K, E, T> Map<K, E> parallelConvertToMap(Collection<T> source, Class<E> targetClass,
+            Function<? super E, ? extends K> keyMapper) {
+        return IndexConvertStrategy.convertToMap(source, targetClass, keyMapper, true);
+    }
+
+    /**
+     * 转换并分组，只遍历一次
+     *
+     * @param source 被转换集合，null元素会被忽略
+     * @param targetClass 需要转换到的类型
+     * @param classifier 从转换结果中获取分组键
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <K, E, T> Map<K, List<E>> groupingConvert(Collection<T> source, Class<E> targetClass,
+            Function<? super E, ? extends K> classifier) {
+        return IndexConvertStrategy.groupingConvert(source, targetClass, classifier, false);
+    }
+
+    /**
+     * 并行转换并分组，只遍历一次，分组内元素的顺序与源一致
+     *
+     * @param source 被转换集合，null元素会被忽略
+     * @param targetClass 需要转换到的类型
+     * @param classifier 从转换结果中获取分组键
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <K, E, T> Map<K, List<E>> parallelGroupingConvert(Collection<T> source, Class<E> targetClass,
+            Function<? super E, ? extends K> classifier) {
+        return IndexConvertStrategy.groupingConvert(source, targetClass, classifier, true);
+    }
+
+    /**
+     * 转换并按条件分为两组，只遍历一次
+     *
+     * @param source 被转换集合，null元素会被忽略
+     * @param targetClass 需要转换到的类型
+     * @param predicate 分组条件
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> Map<Boolean, List<E>> partitionConvert(Collection<T> source, Class<E> targetClass,
+            Predicate<? super E> predicate) {
+        return IndexConvertStrategy.partitionConvert(source, targetClass, predicate, false);
+    }
+
+    /**
+     * 并行转换并按条件分为两组，只遍历一次，分组内元素的顺序与源一致
+     *
+     * @param source 被转换集合，null元素会被忽略
+     * @param targetClass 需要转换到的类型
+     * @param predicate 分组条件
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> Map<Boolean, List<E>> parallelPartitionConvert(Collection<T> source, Class<E> targetClass,
+            Predicate<? super E> predicate) {
+        return IndexConvertStrategy.partitionConvert(source, targetClass, predicate, true);
+    }
+
+    /**
+     * 多目标转换，同一源列表一次遍历转换到多个目标类型
+     *
+     * @param source 被转换列表
+     * @param targetClasses 需要转换到的类型
+     * @param <T> 转换前的类型
+     * @return 结果，通过 {@link MultiConvertResult#get(Class)} 获取各目标类型的结果
+     */
+    public static <T> MultiConvertResult convertMulti(List<T> source, Class<?>... targetClasses) {
+        return MultiConvertStrategy.convertMulti(source, false, targetClasses);
+    }
+
+    /**
+     * 多目标并行转换，同一源列表一次并行遍历转换到多个目标类型
+     *
+     * @param source 被转换列表
+     * @param targetClasses 需要转换到的类型
+     * @param <T> 转换前的类型
+     * @return 结果，通过 {@link MultiConvertResult#get(Class)} 获取各目标类型的结果
+     */
+    public static <T> MultiConvertResult parallelConvertMulti(List<T> source, Class<?>... targetClasses) {
+        return MultiConvertStrategy.convertMulti(source, true, targetClasses);
+    }
+
+    /**
+     * 内关联转换，两个列表按键关联，每对匹配的元素调用一次关联转换方法
+     *
+     * @param left 左侧列表，结果顺序与其一致
+     * @param leftKey 左侧元素的键
+     * @param right 右侧列表
+     * @param rightKey 右侧元素的键
+     * @param targetClass 需要转换到的类型
+     * @param <A> 左侧元素类型
+     * @param <B> 右侧元素类型
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <A, B, K, E> List<E> join(List<A> left, Function<? super A, ? extends K> leftKey, List<B> right,
+            Function<? super B, ? extends K> rightKey, Class<E> targetClass) {
+        return JoinConvertStrategy.join(left, leftKey, right, rightKey, targetClass, false, false);
+    }
+
+    /**
+     * 左关联转换，无匹配的左侧元素与null一起转换
+     *
+     * @param left 左侧列表，结果顺序与其一致
+     * @param leftKey 左侧元素的键
+     * @param right 右侧列表
+     * @param rightKey 右侧元素的键
+     * @param targetClass 需要转换到的类型
+     * @param <A> 左侧元素类型
+     * @param <B> 右侧元素类型
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <A, B, K, E> List<E> leftJoin(List<A> left, Function<? super A, ? extends K> leftKey, List<B> right,
+            Function<? super B, ? extends K> rightKey, Class<E> targetClass) {
+        return JoinConvertStrategy.join(left, leftKey, right, rightKey, targetClass, true, false);
+    }
+
+    /**
+     * 内关联并行转换
+     *
+     * @param left 左侧列表，结果顺序与其一致
+     * @param leftKey 左侧元素的键
+     * @param right 右侧列表
+     * @param rightKey 右侧元素的键
+     * @param targetClass 需要转换到的类型
+     * @param <A> 左侧元素类型
+     * @param <B> 右侧元素类型
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <A, B, K, E> List<E> parallelJoin(List<A> left, Function<? super A, ? extends K> leftKey, List<B> right,
+            Function<? super B, ? extends K> rightKey, Class<E> targetClass) {
+        return JoinConvertStrategy.join(left, leftKey, right, rightKey, targetClass, false, true);
+    }
+
+    /**
+     * 左关联并行转换
+     *
+     * @param left 左侧列表，结果顺序与其一致
+     * @param leftKey 左侧元素的键
+     * @param right 右侧列表
+     * @param rightKey 右侧元素的键
+     * @param targetClass 需要转换到的类型
+     * @param <A> 左侧元素类型
+     * @param <B> 右侧元素类型
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <A, B, K, E> List<E> parallelLeftJoin(List<A> left, Function<? super A, ? extends K> leftKey, List<B> right,
+            Function<? super B, ? extends K> rightKey, Class<E> targetClass) {
+        return JoinConvertStrategy.join(left, leftKey, right, rightKey, targetClass, true, true);
+    }
+
+    /**
+     * Bean转换为Map，以属性名为键；已注册 {@code T -> Map} 的转换方法时使用该方法
+     *
+     * @param source 被转换对象
+     * @return 结果
+     */
+    public static Map<String, Object> beanToMap(Object source) {
+        return MapConvertStrategy.beanToMap(source);
+    }
+
+    /**
+     * Map转换为Bean，按键写入同名属性；已注册 {@code Map -> T} 的转换方法时使用该方法
+     *
+     * @param source 被转换Map
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E mapToBean(Map<String, ?> source, Class<E> targetClass) {
+        return MapConvertStrategy.mapToBean(source, targetClass);
+    }
+
+    /**
+     * Bean列表转换为Map列表
+     *
+     * @param source 被转换列表
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <T> List<Map<String, Object>> beansToMaps(List<T> source) {
+        return MapConvertStrategy.beansToMaps(source, false);
+    }
+
+    /**
+     * Bean列表并行转换为Map列表
+     *
+     * @param source 被转换列表
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <T> List<Map<String, Object>> parallelBeansToMaps(List<T> source) {
+        return MapConvertStrategy.beansToMaps(source, true);
+    }
+
+    /**
+     * Map列表转换为Bean列表
+     *
+     * @param source 被转换列表
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> mapsToBeans(List<? extends Map<String, ?>> source, Class<E> targetClass) {
+        return MapConvertStrategy.mapsToBeans(source, targetClass, false);
+    }
+
+    /**
+     * Map列表并行转换为Bean列表
+     *
+     * @param source 被转换列表
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> parallelMapsToBeans(List<? extends Map<String, ?>> source, Class<E> targetClass) {
+        return MapConvertStrategy.mapsToBeans(source, targetClass, true);
+    }
+
 }
@@ -15,18 +15,27 @@
  */
 package com.github.liaochong.converter.core;
 
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
-import java.util.Optional;
+import java.util.RandomAccess;
+import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
+import com.github.liaochong.converter.context.ConversionContext;
 import com.github.liaochong.converter.context.ConverterContext;
 import com.github.liaochong.converter.context.Handler;
 import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.jfr.ConvertBeansEvent;
+import com.github.liaochong.converter.jfr.JfrSupport;
+import com.github.liaochong.converter.utils.ClassUtil;
 import com.github.liaochong.converter.utils.SupplierUtil;
 import lombok.extern.slf4j.Slf4j;
 
@@ -39,6 +48,11 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 class BeansConvertStrategy {
 
+    /**
+     * 并行非空过滤时被过滤位置的标记
+     */
+    private static final Object SKIPPED = new Object();
+
     /**
      * 集合转换，无指定异常提供
      *
@@ -101,6 +115,20 @@ class BeansConvertStrategy {
         return convertBeans(source, targetClass, exceptionSupplier, true, nonNullFilter);
     }
 
+    /**
+     * 集合去重转换，同一引用的源对象只转换一次，重复出现时复用转换结果
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> List<E> dedupConvertBeans(List<T> source, Class<E> targetClass, boolean parallelConvert) {
+        return convertBeans(source, targetClass, null, parallelConvert, false, true);
+    }
+
     /**
      * 集合转换
      *
@@ -116,31 +144,242 @@ class BeansConvertStrategy {
      */
     private static <E, T, X extends RuntimeException> List<E> convertBeans(List<T> source, Class<E> targetClass,
             Supplier<X> exceptionSupplier, boolean parallelConvert, boolean nonNullFilter) {
+        return convertBeans(source, targetClass, exceptionSupplier, parallelConvert, nonNullFilter, false);
+    }
+
+    /**
+     * 集合转换
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param exceptionSupplier 异常操作
+     * @param parallelConvert 是否为并行转换
+     * @param nonNullFilter 是否非空过滤
+     * @param dedup 是否按引用去重转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @param <X> 异常返回类型
+     * @return 结果
+     */
+    private static <E, T, X extends RuntimeException> List<E> convertBeans(List<T> source, Class<E> targetClass,
+            Supplier<X> exceptionSupplier, boolean parallelConvert, boolean nonNullFilter, boolean dedup) {
+        if (!JfrSupport.isAvailable()) {
+            return doConvertBeans(source, targetClass, exceptionSupplier, parallelConvert, nonNullFilter, dedup);
+        }
+        ConvertBeansEvent event = new ConvertBeansEvent();
+        event.begin();
+        try {
+            return doConvertBeans(source, targetClass, exceptionSupplier, parallelConvert, nonNullFilter, dedup);
+        } finally {
+            // 源类仅在事件需要提交时才计算
+            int size = Objects.isNull(source) ? 0 : source.size();
+            event.end(() -> sourceClassOf(source), targetClass, size, parallelConvert);
+        }
+    }
+
+    /**
+     * 集合转换实现
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param exceptionSupplier 异常操作
+     * @param parallelConvert 是否为并行转换
+     * @param nonNullFilter 是否非空过滤
+     * @param dedup 是否按引用去重转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @param <X> 异常返回类型
+     * @return 结果
+     */
+    private static <E, T, X extends RuntimeException> List<E> doConvertBeans(List<T> source, Class<E> targetClass,
+            Supplier<X> exceptionSupplier, boolean parallelConvert, boolean nonNullFilter, boolean dedup) {
         Objects.requireNonNull(targetClass, "TargetClass can not be null");
         if (Objects.isNull(source)) {
             return SupplierUtil.ifNonNullThrowOrElse(exceptionSupplier, Collections::emptyList);
         }
-        // 若异常提供者不为NULL，则先校验是否存在NULL对象，存在则抛出异常
-        if (Objects.nonNull(exceptionSupplier)) {
-            Stream<T> stream = parallelConvert ? source.parallelStream() : source.stream();
-            boolean hasNullObj = stream.anyMatch(Objects::isNull);
-            if (hasNullObj) {
-                throw exceptionSupplier.get();
+        // 若异常提供者不为NULL，则先校验是否存在NULL对象，存在则在任何转换执行之前抛出异常，
+        // 因此指定异常优先于转换方法的异常以及转换方法不存在的异常
+        if (Objects.nonNull(exceptionSupplier) && containsNull(source)) {
+            throw exceptionSupplier.get();
+        }
+        // 同一次批量转换的所有元素共享转换上下文
+        ConversionContext context = ConversionContext.newInstance();
+        // handler获取以及转换在同一次遍历中完成
+        if (dedup) {
+            return dedupConvertBeans(source, targetClass, parallelConvert, nonNullFilter, context);
+        }
+        if (parallelConvert) {
+            return doParallelConvertBeans(source, targetClass, nonNullFilter, context);
+        }
+        Handler handler = null;
+        List<E> result = new ArrayList<>(source.size());
+        for (T element : source) {
+            if (Objects.isNull(element)) {
+                if (!nonNullFilter) {
+                    result.add(null);
+                }
+                continue;
+            }
+            // 一次性获取，避免每次转换都要查找导致的额外消耗
+            if (Objects.isNull(handler)) {
+                handler = getActionHandler(element, targetClass);
+            }
+            result.add(convertBean(element, targetClass, handler, context));
+        }
+        return Objects.isNull(handler) ? Collections.emptyList() : result;
+    }
+
+    /**
+     * 集合并行转换
+     * <p>
+     * 按下标切分，各线程直接将结果写入同一个预分配数组的对应下标，数组不经复制直接作为结果列表；
+     * 非空过滤时被过滤的位置先写入标记，再原地压缩，不需要第二个缓冲区
+     * </p>
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param nonNullFilter 是否非空过滤
+     * @param context 批量转换上下文
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    private static <E, T> List<E> doParallelConvertBeans(List<T> source, Class<E> targetClass,
+            boolean nonNullFilter, ConversionContext context) {
+        Object[] result;
+        IntFunction<Object> elementAt;
+        if (source instanceof RandomAccess) {
+            result = new Object[source.size()];
+            elementAt = source::get;
+        } else {
+            // 非RandomAccess的列表先取数组快照，转换结果原地写回；toArray()可能返回元素类型的数组，需指定Object[]
+            result = source.toArray(new Object[0]);
+            Object[] snapshot = result;
+            elementAt = i -> snapshot[i];
+        }
+        // handler以首个非空对象为准，通常只需检查第一个元素
+        Handler handler = null;
+        for (int i = 0; i < result.length && Objects.isNull(handler); i++) {
+            Object element = elementAt.apply(i);
+            if (Objects.nonNull(element)) {
+                handler = getActionHandler(element, targetClass);
             }
         }
-        // 一次性获取，避免每次转换都要查找导致的额外消耗
-        Optional<T> sourceElement = source.stream().filter(Objects::nonNull).findAny();
-        if (!sourceElement.isPresent()) {
+        if (Objects.isNull(handler)) {
             return Collections.emptyList();
         }
-        Handler handler = ConverterContext.getActionHandler(sourceElement.get().getClass(), targetClass);
+
+        Handler finalHandler = handler;
+        IntStream.range(0, result.length).parallel().forEach(i -> {
+            Object element = elementAt.apply(i);
+            result[i] = Objects.isNull(element) ? nonNullFilter ? SKIPPED : null
+                    : convertBean(element, targetClass, finalHandler, context);
+        });
+        if (!nonNullFilter) {
+            return new ArrayBackedList<>(result, result.length);
+        }
+        int size = 0;
+        for (int i = 0; i < result.length; i++) {
+            if (result[i] != SKIPPED) {
+                result[size++] = result[i];
+            }
+        }
+        Arrays.fill(result, size, result.length, null);
+        return new ArrayBackedList<>(result, size);
+    }
+
+    /**
+     * 集合去重转换
+     * <p>
+     * 先按引用收集不重复的源对象，只转换这些对象（可并行），再按原顺序回填，重复引用得到同一个转换结果
+     * </p>
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param nonNullFilter 是否非空过滤
+     * @param context 批量转换上下文
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    private static <E, T> List<E> dedupConvertBeans(List<T> source, Class<E> targetClass, boolean parallelConvert,
+            boolean nonNullFilter, ConversionContext context) {
+        Map<T, Integer> distinctIndexes = new IdentityHashMap<>();
+        List<T> distinctSource = new ArrayList<>();
+        int[] positions = new int[source.size()];
+        int i = 0;
+        for (T element : source) {
+            if (Objects.isNull(element)) {
+                positions[i++] = -1;
+                continue;
+            }
+            Integer index = distinctIndexes.get(element);
+            if (Objects.isNull(index)) {
+                index = distinctSource.size();
+                distinctIndexes.put(element, index);
+                distinctSource.add(element);
+            }
+            positions[i++] = index;
+        }
+        if (distinctSource.isEmpty()) {
+            return Collections.emptyList();
+        }
+        Handler handler = getActionHandler(distinctSource.get(0), targetClass);
+        Stream<T> stream = parallelConvert ? distinctSource.parallelStream() : distinctSource.stream();
+        List<E> distinctResult = stream.map(convertedObj -> convertBean(convertedObj, targetClass, handler, context))
+                .collect(Collectors.toList());
+
+        List<E> result = new ArrayList<>(positions.length);
+        for (int position : positions) {
+            if (position >= 0) {
+                result.add(distinctResult.get(position));
+            } else if (!nonNullFilter) {
+                result.add(null);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 是否存在NULL对象，只比较引用，不调用contains以兼容不允许查找null的列表
+     *
+     * @param source 集合
+     * @return true/false
+     */
+    private static boolean containsNull(List<?> source) {
+        for (Object element : source) {
+            if (Objects.isNull(element)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 根据源对象获取handler
+     *
+     * @param element 非空源对象
+     * @param targetClass 需要转换到的类型
+     * @return handler
+     */
+    private static Handler getActionHandler(Object element, Class<?> targetClass) {
+        Handler handler = ConverterContext.getActionHandler(element.getClass(), targetClass);
         log.info("Call method \"{}\"", handler.getMethod());
+        return handler;
+    }
 
-        Stream<T> stream = parallelConvert ? source.parallelStream() : source.stream();
-        if (nonNullFilter) {
-            stream = stream.filter(Objects::nonNull);
+    /**
+     * 获取集合中首个非空元素的类型
+     *
+     * @param source 集合
+     * @return 元素类型，不存在非空元素时返回null
+     */
+    private static Class<?> sourceClassOf(List<?> source) {
+        if (Objects.isNull(source)) {
+            return null;
         }
-        return stream.map(convertedObj -> convertBean(convertedObj, targetClass, handler)).collect(Collectors.toList());
+        return source.stream().filter(Objects::nonNull).findFirst().map(Object::getClass).orElse(null);
     }
 
     /**
@@ -151,19 +390,16 @@ class BeansConvertStrategy {
      * @param source 被转换对象
      * @param targetClass 需要转换到的类型
      * @param handler 转换处理者
+     * @param context 批量转换上下文
      * @param <T> 转换前的类型
      * @param <U> 转换后的类型
      * @return 结果
      */
-    private static <T, U> U convertBean(T source, Class<U> targetClass, Handler handler) {
-        try {
-            if (Objects.isNull(source)) {
-                return null;
-            }
-            return targetClass.cast(handler.getMethod().invoke(handler.getHandler(), source));
-        } catch (IllegalAccessException | InvocationTargetException e) {
-            throw ConvertException.of("Call method \"" + handler.getMethod() + "\" failed", e);
+    private static <T, U> U convertBean(T source, Class<U> targetClass, Handler handler, ConversionContext context) {
+        if (Objects.isNull(source)) {
+            return null;
         }
+        return ClassUtil.wrapperClass(targetClass).cast(handler.invoke(source, context));
     }
 
 }
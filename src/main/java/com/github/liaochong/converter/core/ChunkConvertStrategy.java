@@ -0,0 +1,156 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.exception.ConvertException;
+
+/**
+ * 分块转换策略
+ * <p>
+ * 从迭代器或分页提供者中逐块拉取源数据，每块转换后交给消费者，转换结果不汇总；
+ * 内存占用取决于块大小及同时转换的块数量，与数据总量无关
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+class ChunkConvertStrategy {
+
+    /**
+     * 迭代器分块转换
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 源迭代器，只在调用线程中访问
+     * @param targetClass 需要转换到的类型
+     * @param chunkSize 块大小
+     * @param maxInFlight 同时转换的最大块数，为1时在调用线程中顺序转换
+     * @param consumer 转换结果消费者，按块的顺序在调用线程中调用
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 转换的元素总数
+     */
+    public static <E, T> long convertChunks(Iterator<? extends T> source, Class<E> targetClass, int chunkSize,
+            int maxInFlight, Consumer<? super List<E>> consumer) {
+        Objects.requireNonNull(source, "Source can not be null");
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("ChunkSize must be positive");
+        }
+        Supplier<List<T>> chunkSupplier = () -> {
+            if (!source.hasNext()) {
+                return null;
+            }
+            List<T> chunk = new ArrayList<>(chunkSize);
+            while (chunk.size() < chunkSize && source.hasNext()) {
+                chunk.add(source.next());
+            }
+            return chunk;
+        };
+        return convertPages(chunkSupplier, targetClass, maxInFlight, consumer);
+    }
+
+    /**
+     * 分页转换，每页作为一块
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param pageSupplier 分页提供者，返回null或空页时结束，只在调用线程中调用
+     * @param targetClass 需要转换到的类型
+     * @param maxInFlight 同时转换的最大页数，也是同时持有的最大页数，为1时在调用线程中顺序转换
+     * @param consumer 转换结果消费者，按页的顺序在调用线程中调用
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 转换的元素总数
+     */
+    public static <E, T> long convertPages(Supplier<? extends List<T>> pageSupplier, Class<E> targetClass,
+            int maxInFlight, Consumer<? super List<E>> consumer) {
+        Objects.requireNonNull(pageSupplier, "PageSupplier can not be null");
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Objects.requireNonNull(consumer, "Consumer can not be null");
+        if (maxInFlight <= 0) {
+            throw new IllegalArgumentException("MaxInFlight must be positive");
+        }
+        if (maxInFlight == 1) {
+            return sequentialConvertPages(pageSupplier, targetClass, consumer);
+        }
+        long count = 0;
+        Deque<CompletableFuture<List<E>>> inFlight = new ArrayDeque<>(maxInFlight);
+        try {
+            while (true) {
+                // 先腾出位置再拉取下一页，内存中的源数据不超过maxInFlight页
+                if (inFlight.size() == maxInFlight) {
+                    consumer.accept(join(inFlight.poll()));
+                }
+                List<T> page = pageSupplier.get();
+                if (Objects.isNull(page) || page.isEmpty()) {
+                    break;
+                }
+                List<T> chunk = page;
+                inFlight.add(CompletableFuture.supplyAsync(ConverterContext
+                        .withCurrentRegistry(() -> BeansConvertStrategy.convertBeans(chunk, targetClass, false))));
+                count += page.size();
+            }
+            while (!inFlight.isEmpty()) {
+                consumer.accept(join(inFlight.poll()));
+            }
+        } finally {
+            // 异常时放弃尚未完成的块
+            inFlight.forEach(future -> future.cancel(false));
+        }
+        return count;
+    }
+
+    private static <E, T> long sequentialConvertPages(Supplier<? extends List<T>> pageSupplier, Class<E> targetClass,
+            Consumer<? super List<E>> consumer) {
+        long count = 0;
+        List<T> page;
+        while (Objects.nonNull(page = pageSupplier.get()) && !page.isEmpty()) {
+            consumer.accept(BeansConvertStrategy.convertBeans(page, targetClass, false));
+            count += page.size();
+        }
+        return count;
+    }
+
+    /**
+     * 等待块转换完成，转换异常原样抛出
+     *
+     * @param future 块转换
+     * @param <E> 转换后的类型
+     * @return 转换结果
+     */
+    private static <E> List<E> join(CompletableFuture<List<E>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw ConvertException.of(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.lang.reflect.Array;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.SortedSet;
+import java.util.TreeMap;
+import java.util.stream.IntStream;
+
+import com.github.liaochong.converter.context.ConversionContext;
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collection、Set、Map以及数组转换策略
+ * <p>
+ * 结果按最终大小一次性分配；并行转换基于源数据的数组快照按下标切分，非RandomAccess的源（如LinkedList）同样可以均匀切分
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+class CollectionConvertStrategy {
+
+    /**
+     * 集合转换，List交由BeansConvertStrategy处理
+     *
+     * @param source 需要转换的集合
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <E, T> List<E> convertCollection(Collection<T> source, Class<E> targetClass,
+            boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (source instanceof List) {
+            List<T> list = (List<T>) source;
+            return parallelConvert ? BeansConvertStrategy.parallelConvertBeans(list, targetClass, false)
+                    : BeansConvertStrategy.convertBeans(list, targetClass, false);
+        }
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Collections.emptyList();
+        }
+        // 转换结果原地写回，toArray()可能返回元素类型的数组，需指定Object[]
+        Object[] elements = source.toArray(new Object[0]);
+        convertElements(elements, elements, targetClass, parallelConvert);
+        return new ArrayBackedList<>(elements, elements.length);
+    }
+
+    /**
+     * Set转换，源为LinkedHashSet或SortedSet时结果保持迭代顺序
+     *
+     * @param source 需要转换的Set
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <E, T> Set<E> convertSet(Set<T> source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Collections.emptySet();
+        }
+        // 转换结果原地写回，toArray()可能返回元素类型的数组，需指定Object[]
+        Object[] elements = source.toArray(new Object[0]);
+        convertElements(elements, elements, targetClass, parallelConvert);
+        boolean ordered = source instanceof LinkedHashSet || source instanceof SortedSet;
+        Set<E> result = ordered ? new LinkedHashSet<>(capacity(elements.length))
+                : new HashSet<>(capacity(elements.length));
+        Class<E> resultClass = ClassUtil.wrapperClass(targetClass);
+        for (Object element : elements) {
+            result.add(resultClass.cast(element));
+        }
+        return result;
+    }
+
+    /**
+     * Map值转换，键保持不变
+     * <p>
+     * 源为SortedMap时结果为使用相同比较器的TreeMap，源为LinkedHashMap时结果保持迭代顺序
+     * </p>
+     *
+     * @param source 需要转换的Map
+     * @param targetClass 值需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <K> 键类型
+     * @param <E> 转换后的值类型
+     * @param <V> 转换前的值类型
+     * @return 结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <K, E, V> Map<K, E> convertMap(Map<K, V> source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int size = source.size();
+        Object[] keys = new Object[size];
+        Object[] values = new Object[size];
+        int i = 0;
+        for (Map.Entry<K, V> entry : source.entrySet()) {
+            keys[i] = entry.getKey();
+            values[i++] = entry.getValue();
+        }
+        convertElements(values, values, targetClass, parallelConvert);
+        Map<K, E> result;
+        if (source instanceof SortedMap) {
+            result = new TreeMap<>(((SortedMap<K, V>) source).comparator());
+        } else if (source instanceof LinkedHashMap) {
+            result = new LinkedHashMap<>(capacity(size));
+        } else {
+            result = new HashMap<>(capacity(size));
+        }
+        Class<E> resultClass = ClassUtil.wrapperClass(targetClass);
+        for (int j = 0; j < size; j++) {
+            result.put((K) keys[j], resultClass.cast(values[j]));
+        }
+        return result;
+    }
+
+    /**
+     * 数组转换
+     *
+     * @param source 需要转换的数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <E, T> E[] convertArray(T[] source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        int length = Objects.isNull(source) ? 0 : source.length;
+        E[] result = (E[]) Array.newInstance(ClassUtil.wrapperClass(targetClass), length);
+        if (length > 0) {
+            convertElements(source, result, targetClass, parallelConvert);
+        }
+        return result;
+    }
+
+    /**
+     * 按下标转换，结果写入目标数组同一下标，源与目标可以为同一数组
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 源数组
+     * @param target 目标数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     */
+    private static void convertElements(Object[] source, Object[] target, Class<?> targetClass,
+            boolean parallelConvert) {
+        Handler handler = resolveHandler(source, targetClass);
+        if (Objects.isNull(handler)) {
+            // 全部为null，无需转换
+            return;
+        }
+        log.info("Call method \"{}\"", handler.getMethod());
+        ConversionContext context = ConversionContext.newInstance();
+        Class<?> resultClass = ClassUtil.wrapperClass(targetClass);
+        IntStream indexes = IntStream.range(0, source.length);
+        if (parallelConvert) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            Object element = source[i];
+            target[i] = Objects.isNull(element) ? null : resultClass.cast(handler.invoke(element, context));
+        });
+    }
+
+    /**
+     * 根据首个非空元素获取handler
+     *
+     * @param elements 元素
+     * @param targetClass 需要转换到的类型
+     * @return handler，不存在非空元素时为null
+     */
+    private static Handler resolveHandler(Object[] elements, Class<?> targetClass) {
+        for (Object element : elements) {
+            if (Objects.nonNull(element)) {
+                return ConverterContext.getActionHandler(element.getClass(), targetClass);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 根据元素数量计算Hash容器的初始容量，避免扩容
+     *
+     * @param size 元素数量
+     * @return 初始容量
+     */
+    static int capacity(int size) {
+        return size < 3 ? size + 1 : (int) (size / 0.75f + 1.0f);
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.ConvertException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 填充转换策略
+ * <p>
+ * 使用形如 {@code void fill(S source, T target)} 的填充方法将源对象写入已有的目标对象，由调用方控制目标对象的生命周期以复用对象
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+class FillConvertStrategy {
+
+    /**
+     * 单个Bean填充
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 源对象，为null时不填充
+     * @param target 被填充的目标对象
+     * @param <T> 源类型
+     * @param <E> 目标类型
+     * @return 目标对象
+     */
+    public static <T, E> E fillBean(T source, E target) {
+        Objects.requireNonNull(target, "Target can not be null");
+        if (Objects.isNull(source)) {
+            return target;
+        }
+        Handler handler = ConverterContext.getFillHandler(source.getClass(), target.getClass());
+        log.info("Call method \"{}\"", handler.getMethod());
+        handler.fill(source, target);
+        return target;
+    }
+
+    /**
+     * 集合填充，源集合与目标集合按下标一一对应，源对象为null时对应的目标对象不填充
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 源集合
+     * @param targets 被填充的目标集合
+     * @param <T> 源类型
+     * @param <E> 目标类型
+     * @return 目标集合
+     */
+    public static <T, E> List<E> fillBeans(List<T> source, List<E> targets) {
+        Objects.requireNonNull(targets, "Targets can not be null");
+        if (Objects.isNull(source)) {
+            return targets;
+        }
+        if (source.size() != targets.size()) {
+            throw new IllegalArgumentException(
+                    "Source size " + source.size() + " does not match targets size " + targets.size());
+        }
+        Handler handler = null;
+        for (int i = 0, size = source.size(); i < size; i++) {
+            T element = source.get(i);
+            if (Objects.isNull(element)) {
+                continue;
+            }
+            E target = Objects.requireNonNull(targets.get(i), "Target can not be null");
+            if (Objects.isNull(handler)) {
+                handler = ConverterContext.getFillHandler(element.getClass(), target.getClass());
+                log.info("Call method \"{}\"", handler.getMethod());
+            }
+            handler.fill(element, target);
+        }
+        return targets;
+    }
+
+    /**
+     * 集合填充，目标对象由提供者提供（如对象池），源对象为null时结果对应位置为null
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 源集合
+     * @param targetClass 目标类型
+     * @param targetSupplier 目标对象提供者
+     * @param <T> 源类型
+     * @param <E> 目标类型
+     * @return 结果
+     */
+    public static <T, E> List<E> fillBeans(List<T> source, Class<E> targetClass,
+            Supplier<? extends E> targetSupplier) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Objects.requireNonNull(targetSupplier, "TargetSupplier can not be null");
+        if (Objects.isNull(source)) {
+            return Collections.emptyList();
+        }
+        Handler handler = null;
+        List<E> result = new ArrayList<>(source.size());
+        for (T element : source) {
+            if (Objects.isNull(element)) {
+                result.add(null);
+                continue;
+            }
+            if (Objects.isNull(handler)) {
+                handler = ConverterContext.getFillHandler(element.getClass(), targetClass);
+                log.info("Call method \"{}\"", handler.getMethod());
+            }
+            E target = targetSupplier.get();
+            handler.fill(element, target);
+            result.add(target);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import com.github.liaochong.converter.context.ConversionContext;
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 转换并索引策略
+ * <p>
+ * 转换的同时建立索引，只遍历一次且不产生中间列表；源中的null元素及转换结果为null的元素会被忽略，键不允许为null；
+ * 并行转换时各线程分别收集后按源顺序合并，分组内元素的顺序与源一致
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+class IndexConvertStrategy {
+
+    /**
+     * 转换并以键建立Map
+     *
+     * @throws ConvertException 转换异常
+     * @throws IllegalStateException 键重复
+     * @throws NullPointerException 键为null
+     *
+     * @param source 被转换集合
+     * @param targetClass 需要转换到的类型
+     * @param keyMapper 从转换结果中获取键
+     * @param parallelConvert 是否为并行转换
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <K, E, T> Map<K, E> convertToMap(Collection<T> source, Class<E> targetClass,
+            Function<? super E, ? extends K> keyMapper, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Objects.requireNonNull(keyMapper, "KeyMapper can not be null");
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        int capacity = CollectionConvertStrategy.capacity(source.size());
+        // 并行转换时各线程分别创建Map，不按总数预分配
+        Supplier<Map<K, E>> mapSupplier = parallelConvert ? HashMap::new : () -> new HashMap<>(capacity);
+        return converted(source.toArray(), targetClass, parallelConvert)
+                .collect(Collectors.toMap(element -> requireKey(keyMapper.apply(element)), Function.identity(),
+                        (first, second) -> {
+                            throw new IllegalStateException("Duplicate key " + keyMapper.apply(first));
+                        }, mapSupplier));
+    }
+
+    /**
+     * 转换并分组
+     *
+     * @throws ConvertException 转换异常
+     * @throws NullPointerException 分组键为null
+     *
+     * @param source 被转换集合
+     * @param targetClass 需要转换到的类型
+     * @param classifier 从转换结果中获取分组键
+     * @param parallelConvert 是否为并行转换
+     * @param <K> 分组键类型
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <K, E, T> Map<K, List<E>> groupingConvert(Collection<T> source, Class<E> targetClass,
+            Function<? super E, ? extends K> classifier, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Objects.requireNonNull(classifier, "Classifier can not be null");
+        if (Objects.isNull(source) || source.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return converted(source.toArray(), targetClass, parallelConvert).collect(Collectors
+                .groupingBy(element -> requireKey(classifier.apply(element)), HashMap::new, Collectors.toList()));
+    }
+
+    /**
+     * 转换并按条件分为两组
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换集合
+     * @param targetClass 需要转换到的类型
+     * @param predicate 分组条件
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @param <T> 转换前的类型
+     * @return 结果，始终包含true、false两个键
+     */
+    public static <E, T> Map<Boolean, List<E>> partitionConvert(Collection<T> source, Class<E> targetClass,
+            Predicate<? super E> predicate, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Objects.requireNonNull(predicate, "Predicate can not be null");
+        Object[] elements = Objects.isNull(source) ? new Object[0] : source.toArray();
+        return new HashMap<>(
+                converted(elements, targetClass, parallelConvert).collect(Collectors.partitioningBy(predicate)));
+    }
+
+    /**
+     * 校验键不为null，顺序与并行转换均拒绝null键
+     *
+     * @param key 键
+     * @param <K> 键类型
+     * @return 键
+     */
+    private static <K> K requireKey(K key) {
+        return Objects.requireNonNull(key, "Key can not be null");
+    }
+
+    /**
+     * 逐个转换，忽略null元素及null结果；并行转换时由收集器在各线程分别累积后按源顺序合并
+     *
+     * @param elements 被转换元素
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @return 转换结果流
+     */
+    private static <E> Stream<E> converted(Object[] elements, Class<E> targetClass, boolean parallelConvert) {
+        Handler handler = resolveHandler(elements, targetClass);
+        if (Objects.isNull(handler)) {
+            return Stream.empty();
+        }
+        log.info("Call method \"{}\"", handler.getMethod());
+        ConversionContext context = ConversionContext.newInstance();
+        Class<E> resultClass = ClassUtil.wrapperClass(targetClass);
+        Stream<Object> stream = Arrays.stream(elements);
+        if (parallelConvert) {
+            stream = stream.parallel();
+        }
+        return stream.filter(Objects::nonNull).map(element -> resultClass.cast(handler.invoke(element, context)))
+                .filter(Objects::nonNull);
+    }
+
+    /**
+     * 根据首个非空元素获取handler
+     *
+     * @param elements 元素
+     * @param targetClass 需要转换到的类型
+     * @return handler，全部为null时返回null
+     */
+    private static Handler resolveHandler(Object[] elements, Class<?> targetClass) {
+        for (Object element : elements) {
+            if (Objects.nonNull(element)) {
+                return ConverterContext.getActionHandler(element.getClass(), targetClass);
+            }
+        }
+        return null;
+    }
+}
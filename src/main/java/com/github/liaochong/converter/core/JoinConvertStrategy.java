@@ -0,0 +1,192 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 关联转换策略
+ * <p>
+ * 按键关联两个列表，每对匹配的元素调用一次形如 {@code T join(A first, B second)} 的关联转换方法；
+ * 在较小的一侧建立Hash索引，结果顺序与左侧列表一致，同一左侧元素的多个匹配按右侧列表顺序排列；
+ * null元素及键为null的元素不参与匹配
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+class JoinConvertStrategy {
+
+    /**
+     * 关联转换
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param left 左侧列表
+     * @param leftKey 左侧元素的键
+     * @param right 右侧列表
+     * @param rightKey 右侧元素的键
+     * @param targetClass 需要转换到的类型
+     * @param leftJoin 是否为左关联，左关联时无匹配的左侧元素与null一起转换
+     * @param parallelConvert 是否为并行转换
+     * @param <A> 左侧元素类型
+     * @param <B> 右侧元素类型
+     * @param <K> 键类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    @SuppressWarnings("unchecked")
+    public static <A, B, K, E> List<E> join(List<A> left, Function<? super A, ? extends K> leftKey, List<B> right,
+            Function<? super B, ? extends K> rightKey, Class<E> targetClass, boolean leftJoin,
+            boolean parallelConvert) {
+        Objects.requireNonNull(leftKey, "LeftKey can not be null");
+        Objects.requireNonNull(rightKey, "RightKey can not be null");
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Object[] lefts = Objects.isNull(left) ? new Object[0] : left.toArray();
+        Object[] rights = Objects.isNull(right) ? new Object[0] : right.toArray();
+        Object leftSample = firstNonNull(lefts);
+        Object rightSample = firstNonNull(rights);
+        if (Objects.isNull(leftSample) || (Objects.isNull(rightSample) && !leftJoin)) {
+            return Collections.emptyList();
+        }
+        Handler handler = ConverterContext.getJoinHandler(leftSample.getClass(),
+                Objects.isNull(rightSample) ? null : rightSample.getClass(), targetClass);
+        log.info("Call method \"{}\"", handler.getMethod());
+
+        // 每个左侧元素匹配到的右侧元素，null表示无匹配
+        List<Object>[] matches = rights.length <= lefts.length
+                ? probeLeft(lefts, (Function<Object, K>) leftKey, rights, (Function<Object, K>) rightKey,
+                        parallelConvert)
+                : probeRight(lefts, (Function<Object, K>) leftKey, rights, (Function<Object, K>) rightKey);
+
+        Class<E> resultClass = ClassUtil.wrapperClass(targetClass);
+        Object[][] converted = new Object[lefts.length][];
+        IntStream indexes = IntStream.range(0, lefts.length);
+        if (parallelConvert) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(ConverterContext.withCurrentRegistry(i -> {
+            Object first = lefts[i];
+            if (Objects.isNull(first)) {
+                return;
+            }
+            List<Object> seconds = matches[i];
+            if (Objects.isNull(seconds)) {
+                if (leftJoin) {
+                    converted[i] = new Object[] { resultClass.cast(handler.join(first, null)) };
+                }
+                return;
+            }
+            Object[] row = new Object[seconds.size()];
+            for (int j = 0; j < row.length; j++) {
+                row[j] = resultClass.cast(handler.join(first, seconds.get(j)));
+            }
+            converted[i] = row;
+        }));
+
+        int size = Arrays.stream(converted).filter(Objects::nonNull).mapToInt(row -> row.length).sum();
+        Object[] result = new Object[size];
+        int position = 0;
+        for (Object[] row : converted) {
+            if (Objects.nonNull(row)) {
+                System.arraycopy(row, 0, result, position, row.length);
+                position += row.length;
+            }
+        }
+        return new ArrayBackedList<>(result, size);
+    }
+
+    /**
+     * 右侧较小：以右侧建立索引，逐个左侧元素探测，可并行探测
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> List<Object>[] probeLeft(Object[] lefts, Function<Object, K> leftKey, Object[] rights,
+            Function<Object, K> rightKey, boolean parallelProbe) {
+        Map<K, List<Object>> index = new HashMap<>(CollectionConvertStrategy.capacity(rights.length));
+        for (Object second : rights) {
+            K key = Objects.isNull(second) ? null : rightKey.apply(second);
+            if (Objects.nonNull(key)) {
+                index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(second);
+            }
+        }
+        List<Object>[] matches = new List[lefts.length];
+        IntStream indexes = IntStream.range(0, lefts.length);
+        if (parallelProbe) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            K key = Objects.isNull(lefts[i]) ? null : leftKey.apply(lefts[i]);
+            if (Objects.nonNull(key)) {
+                matches[i] = index.get(key);
+            }
+        });
+        return matches;
+    }
+
+    /**
+     * 左侧较小：以左侧建立索引，按顺序扫描右侧元素，保证同一左侧元素的匹配按右侧列表顺序排列
+     */
+    @SuppressWarnings("unchecked")
+    private static <K> List<Object>[] probeRight(Object[] lefts, Function<Object, K> leftKey, Object[] rights,
+            Function<Object, K> rightKey) {
+        Map<K, List<Integer>> index = new HashMap<>(CollectionConvertStrategy.capacity(lefts.length));
+        for (int i = 0; i < lefts.length; i++) {
+            K key = Objects.isNull(lefts[i]) ? null : leftKey.apply(lefts[i]);
+            if (Objects.nonNull(key)) {
+                index.computeIfAbsent(key, k -> new ArrayList<>(1)).add(i);
+            }
+        }
+        List<Object>[] matches = new List[lefts.length];
+        for (Object second : rights) {
+            K key = Objects.isNull(second) ? null : rightKey.apply(second);
+            List<Integer> positions = Objects.isNull(key) ? null : index.get(key);
+            if (Objects.isNull(positions)) {
+                continue;
+            }
+            for (int position : positions) {
+                if (Objects.isNull(matches[position])) {
+                    matches[position] = new ArrayList<>(1);
+                }
+                matches[position].add(second);
+            }
+        }
+        return matches;
+    }
+
+    private static Object firstNonNull(Object[] elements) {
+        for (Object element : elements) {
+            if (Objects.nonNull(element)) {
+                return element;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,244 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.springframework.util.NumberUtils;
+
+import com.github.liaochong.converter.context.ConversionContext;
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.core.PropertyTable.Property;
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+
+/**
+ * Map与Bean互相转换策略
+ * <p>
+ * 已注册 {@code Map -> T} 或 {@code T -> Map} 转换方法时使用注册的转换方法，否则按属性表转换：
+ * Bean转Map时以属性名为键写入全部可读属性，Map转Bean时按键写入同名的可写属性，不存在的属性忽略；
+ * 值类型与属性类型不一致时，数值类型按目标类型转换，其余类型使用已注册的转换方法
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+class MapConvertStrategy {
+
+    /**
+     * Bean转换为Map
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换对象
+     * @return 结果，source为null时为null
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> beanToMap(Object source) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        Handler handler = ConverterContext.findActionHandler(source.getClass(), Map.class);
+        if (Objects.nonNull(handler)) {
+            return (Map<String, Object>) handler.invoke(source);
+        }
+        return toMap(source, PropertyTable.of(source.getClass()));
+    }
+
+    /**
+     * Map转换为Bean
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换Map
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果，source为null时为null
+     */
+    public static <E> E mapToBean(Map<String, ?> source, Class<E> targetClass) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        Handler handler = ConverterContext.findActionHandler(Map.class, targetClass);
+        if (Objects.nonNull(handler)) {
+            return targetClass.cast(handler.invoke(source));
+        }
+        return targetClass.cast(toBean(source, PropertyTable.of(targetClass)));
+    }
+
+    /**
+     * Bean列表转换为Map列表，属性表及转换方法只查找一次
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换列表
+     * @param parallelConvert 是否为并行转换
+     * @param <T> 转换前的类型
+     * @return 结果，null元素对应的结果为null
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<Map<String, Object>> beansToMaps(List<T> source, boolean parallelConvert) {
+        Object[] elements = Objects.isNull(source) ? new Object[0] : source.toArray(new Object[0]);
+        Object sample = sampleOf(elements);
+        if (Objects.isNull(sample)) {
+            return Collections.emptyList();
+        }
+        Handler handler = ConverterContext.findActionHandler(sample.getClass(), Map.class);
+        ConversionContext context = ConversionContext.newInstance();
+        PropertyTable table = PropertyTable.of(sample.getClass());
+        convertElements(elements, parallelConvert, element -> {
+            if (Objects.nonNull(handler)) {
+                return handler.invoke(element, context);
+            }
+            return toMap(element, element.getClass() == table.getBeanClass() ? table
+                    : PropertyTable.of(element.getClass()));
+        });
+        return (List<Map<String, Object>>) (List<?>) new ArrayBackedList<>(elements, elements.length);
+    }
+
+    /**
+     * Map列表转换为Bean列表，属性表及转换方法只查找一次
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换列表
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @return 结果，null元素对应的结果为null
+     */
+    public static <E> List<E> mapsToBeans(List<? extends Map<String, ?>> source, Class<E> targetClass,
+            boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        Object[] elements = Objects.isNull(source) ? new Object[0] : source.toArray(new Object[0]);
+        if (Objects.isNull(sampleOf(elements))) {
+            return Collections.emptyList();
+        }
+        Handler handler = ConverterContext.findActionHandler(Map.class, targetClass);
+        ConversionContext context = ConversionContext.newInstance();
+        PropertyTable table = PropertyTable.of(targetClass);
+        Function<Object, Object> converter = Objects.nonNull(handler) ? element -> handler.invoke(element, context)
+                : element -> toBean((Map<?, ?>) element, table);
+        convertElements(elements, parallelConvert, element -> targetClass.cast(converter.apply(element)));
+        return new ArrayBackedList<>(elements, elements.length);
+    }
+
+    private static Object sampleOf(Object[] elements) {
+        for (Object element : elements) {
+            if (Objects.nonNull(element)) {
+                return element;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 按下标原地转换，null元素保持为null
+     *
+     * @param elements 源数组，转换结果写回同一下标
+     * @param parallelConvert 是否为并行转换
+     * @param converter 单个元素的转换
+     */
+    private static void convertElements(Object[] elements, boolean parallelConvert,
+            Function<Object, Object> converter) {
+        IntStream indexes = IntStream.range(0, elements.length);
+        if (parallelConvert) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(ConverterContext.withCurrentRegistry(i -> {
+            if (Objects.nonNull(elements[i])) {
+                elements[i] = converter.apply(elements[i]);
+            }
+        }));
+    }
+
+    private static Map<String, Object> toMap(Object source, PropertyTable table) {
+        Property[] properties = table.getProperties();
+        Map<String, Object> result = new LinkedHashMap<>(CollectionConvertStrategy.capacity(properties.length));
+        for (Property property : properties) {
+            if (Objects.nonNull(property.getter)) {
+                result.put(property.name, property.getter.apply(source));
+            }
+        }
+        return result;
+    }
+
+    private static Object toBean(Map<?, ?> source, PropertyTable table) {
+        Object bean = table.newInstance();
+        for (Map.Entry<?, ?> entry : source.entrySet()) {
+            if (!(entry.getKey() instanceof String)) {
+                continue;
+            }
+            Property property = table.find((String) entry.getKey());
+            if (Objects.isNull(property) || Objects.isNull(property.setter)) {
+                continue;
+            }
+            Object value = entry.getValue();
+            if (Objects.isNull(value)) {
+                // 基本类型属性保持默认值
+                if (!property.type.isPrimitive()) {
+                    property.setter.accept(bean, null);
+                }
+                continue;
+            }
+            property.setter.accept(bean, adapt(value, property, table));
+        }
+        return bean;
+    }
+
+    /**
+     * 将值转换为属性类型
+     *
+     * @throws ConvertException 无法转换
+     *
+     * @param value 非空值
+     * @param property 属性
+     * @param table 属性所属的属性表
+     * @return 转换后的值
+     */
+    @SuppressWarnings("unchecked")
+    private static Object adapt(Object value, Property property, PropertyTable table) {
+        Class<?> type = ClassUtil.wrapperClass(property.type);
+        if (type.isInstance(value)) {
+            return value;
+        }
+        if (value instanceof Number && Number.class.isAssignableFrom(type)) {
+            try {
+                return NumberUtils.convertNumberToTargetClass((Number) value, (Class<Number>) type);
+            } catch (IllegalArgumentException e) {
+                throw ConvertException.of(describe(value, property, table), e);
+            }
+        }
+        Handler handler = ConverterContext.findActionHandler(value.getClass(), property.type);
+        if (Objects.isNull(handler)) {
+            throw ConvertException.of(describe(value, property, table));
+        }
+        return handler.invoke(value);
+    }
+
+    private static String describe(Object value, Property property, PropertyTable table) {
+        return "Can not assign value of type \"" + value.getClass().getName() + "\" to property \"" + property.name
+                + "\" of \"" + table.getBeanClass().getName() + "\"";
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 多目标转换结果，按目标类型保存各自的转换结果列表
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class MultiConvertResult {
+
+    private final Map<Class<?>, List<?>> results;
+
+    MultiConvertResult(Map<Class<?>, List<?>> results) {
+        this.results = results;
+    }
+
+    /**
+     * 获取目标类型的转换结果，顺序与源列表一致
+     *
+     * @throws IllegalArgumentException 未转换到该目标类型
+     *
+     * @param targetClass 目标类型
+     * @param <E> 目标类型
+     * @return 转换结果
+     */
+    @SuppressWarnings("unchecked")
+    public <E> List<E> get(Class<E> targetClass) {
+        List<?> result = results.get(targetClass);
+        if (Objects.isNull(result)) {
+            throw new IllegalArgumentException("TargetClass " + targetClass + " was not converted");
+        }
+        return (List<E>) result;
+    }
+
+    /**
+     * 获取全部目标类型
+     *
+     * @return 目标类型
+     */
+    public Set<Class<?>> getTargetClasses() {
+        return Collections.unmodifiableSet(results.keySet());
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import com.github.liaochong.converter.context.ConversionContext;
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 多目标转换策略
+ * <p>
+ * 同一源列表转换到多个目标类型，预先获取全部handler，只遍历源列表一次，每个元素依次转换到各目标类型
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+class MultiConvertStrategy {
+
+    /**
+     * 多目标转换，源列表中的null元素在各结果中同样为null
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换列表
+     * @param parallelConvert 是否为并行转换
+     * @param targetClasses 需要转换到的类型，重复的类型只转换一次
+     * @param <T> 转换前的类型
+     * @return 结果
+     */
+    public static <T> MultiConvertResult convertMulti(List<T> source, boolean parallelConvert,
+            Class<?>... targetClasses) {
+        Objects.requireNonNull(targetClasses, "TargetClasses can not be null");
+        Set<Class<?>> targets = new LinkedHashSet<>(Arrays.asList(targetClasses));
+        if (targets.contains(null)) {
+            throw new NullPointerException("TargetClass can not be null");
+        }
+        Object[] elements = Objects.isNull(source) ? new Object[0] : source.toArray();
+        Object sample = Arrays.stream(elements).filter(Objects::nonNull).findFirst().orElse(null);
+        Map<Class<?>, List<?>> results = new LinkedHashMap<>(CollectionConvertStrategy.capacity(targets.size()));
+        if (Objects.isNull(sample)) {
+            // 空列表或全部为null，与单目标转换一致返回空列表
+            targets.forEach(targetClass -> results.put(targetClass, Collections.emptyList()));
+            return new MultiConvertResult(results);
+        }
+
+        int count = targets.size();
+        Handler[] handlers = new Handler[count];
+        Class<?>[] resultClasses = new Class<?>[count];
+        Object[][] converted = new Object[count][];
+        int k = 0;
+        for (Class<?> targetClass : targets) {
+            handlers[k] = ConverterContext.getActionHandler(sample.getClass(), targetClass);
+            log.info("Call method \"{}\"", handlers[k].getMethod());
+            resultClasses[k] = ClassUtil.wrapperClass(targetClass);
+            converted[k++] = new Object[elements.length];
+        }
+
+        ConversionContext context = ConversionContext.newInstance();
+        IntStream indexes = IntStream.range(0, elements.length);
+        if (parallelConvert) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(i -> {
+            Object element = elements[i];
+            if (Objects.isNull(element)) {
+                return;
+            }
+            for (int j = 0; j < count; j++) {
+                converted[j][i] = resultClasses[j].cast(handlers[j].invoke(element, context));
+            }
+        });
+
+        k = 0;
+        for (Class<?> targetClass : targets) {
+            results.put(targetClass, new ArrayBackedList<>(converted[k], elements.length));
+            k++;
+        }
+        return new MultiConvertResult(results);
+    }
+}
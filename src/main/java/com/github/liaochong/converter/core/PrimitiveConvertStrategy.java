@@ -0,0 +1,187 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.lang.reflect.Array;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 基本类型转换策略
+ * <p>
+ * 使用参数为long或int的转换方法，源值及源数组元素全程不装箱；未声明对应基本类型方法时退化为包装类型方法
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+class PrimitiveConvertStrategy {
+
+    /**
+     * long值转换
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换值
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E convertLong(long source, Class<E> targetClass) {
+        Handler handler = getActionHandler(long.class, targetClass);
+        return ClassUtil.wrapperClass(targetClass).cast(handler.invokeLong(source));
+    }
+
+    /**
+     * int值转换
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换值
+     * @param targetClass 需要转换到的类型
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E convertInt(int source, Class<E> targetClass) {
+        Handler handler = getActionHandler(int.class, targetClass);
+        return ClassUtil.wrapperClass(targetClass).cast(handler.invokeInt(source));
+    }
+
+    /**
+     * long数组转换为集合
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> convertLongs(long[] source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (Objects.isNull(source) || source.length == 0) {
+            return Collections.emptyList();
+        }
+        Handler handler = getActionHandler(long.class, targetClass);
+        Object[] result = new Object[source.length];
+        convertElements(result, targetClass, parallelConvert, i -> handler.invokeLong(source[i]));
+        return new ArrayBackedList<>(result, result.length);
+    }
+
+    /**
+     * int数组转换为集合
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> List<E> convertInts(int[] source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        if (Objects.isNull(source) || source.length == 0) {
+            return Collections.emptyList();
+        }
+        Handler handler = getActionHandler(int.class, targetClass);
+        Object[] result = new Object[source.length];
+        convertElements(result, targetClass, parallelConvert, i -> handler.invokeInt(source[i]));
+        return new ArrayBackedList<>(result, result.length);
+    }
+
+    /**
+     * long数组转换为数组
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E[] convertLongsToArray(long[] source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        E[] result = newArray(targetClass, Objects.isNull(source) ? 0 : source.length);
+        if (result.length > 0) {
+            Handler handler = getActionHandler(long.class, targetClass);
+            convertElements(result, targetClass, parallelConvert, i -> handler.invokeLong(source[i]));
+        }
+        return result;
+    }
+
+    /**
+     * int数组转换为数组
+     *
+     * @throws ConvertException 转换异常
+     *
+     * @param source 被转换数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param <E> 转换后的类型
+     * @return 结果
+     */
+    public static <E> E[] convertIntsToArray(int[] source, Class<E> targetClass, boolean parallelConvert) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        E[] result = newArray(targetClass, Objects.isNull(source) ? 0 : source.length);
+        if (result.length > 0) {
+            Handler handler = getActionHandler(int.class, targetClass);
+            convertElements(result, targetClass, parallelConvert, i -> handler.invokeInt(source[i]));
+        }
+        return result;
+    }
+
+    /**
+     * 按下标转换，结果写入目标数组同一下标
+     *
+     * @param target 目标数组
+     * @param targetClass 需要转换到的类型
+     * @param parallelConvert 是否为并行转换
+     * @param converter 按下标转换的函数
+     */
+    private static void convertElements(Object[] target, Class<?> targetClass, boolean parallelConvert,
+            IntFunction<Object> converter) {
+        Class<?> resultClass = ClassUtil.wrapperClass(targetClass);
+        IntStream indexes = IntStream.range(0, target.length);
+        if (parallelConvert) {
+            indexes = indexes.parallel();
+        }
+        indexes.forEach(ConverterContext.withCurrentRegistry(i -> target[i] = resultClass.cast(converter.apply(i))));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> E[] newArray(Class<E> targetClass, int length) {
+        return (E[]) Array.newInstance(ClassUtil.wrapperClass(targetClass), length);
+    }
+
+    private static Handler getActionHandler(Class<?> sourceClass, Class<?> targetClass) {
+        Handler handler = ConverterContext.getActionHandler(sourceClass, targetClass);
+        log.info("Call method \"{}\"", handler.getMethod());
+        return handler;
+    }
+}
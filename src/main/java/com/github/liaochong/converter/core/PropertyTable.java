@@ -0,0 +1,328 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.core;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.utils.ClassUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bean属性表
+ * <p>
+ * 每个类只内省一次，为各属性的getter、setter及无参构造函数生成函数式访问器，属性名通过完美哈希表查找；
+ * 类或方法对本框架的类加载器不可见时退化为反射调用
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+final class PropertyTable {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /**
+     * 完美哈希表查找种子的最大尝试次数，每轮尝试失败后表容量翻倍
+     */
+    private static final int MAX_SEED_ATTEMPTS = 32;
+
+    private static final int MAX_SLOT_BITS = 12;
+
+    private static final ClassValue<PropertyTable> TABLES = new ClassValue<PropertyTable>() {
+        @Override
+        protected PropertyTable computeValue(Class<?> type) {
+            return new PropertyTable(type);
+        }
+    };
+
+    private final Class<?> beanClass;
+
+    /**
+     * 无参构造函数，不存在时为null
+     */
+    private final Supplier<Object> constructor;
+
+    /**
+     * 全部可读或可写属性，按内省顺序
+     */
+    private final Property[] properties;
+
+    /**
+     * 完美哈希表，每个属性独占一个槽位
+     */
+    private final Property[] slots;
+
+    private final int seed;
+
+    /**
+     * 属性名哈希值完全相同时无法构建完美哈希表，退化为HashMap查找，否则为null
+     */
+    private final Map<String, Property> fallbackIndex;
+
+    private PropertyTable(Class<?> beanClass) {
+        this.beanClass = beanClass;
+        this.constructor = createConstructor(beanClass);
+        List<Property> list = new ArrayList<>();
+        for (PropertyDescriptor descriptor : BeanUtils.getPropertyDescriptors(beanClass)) {
+            Method readMethod = descriptor.getReadMethod();
+            Method writeMethod = descriptor.getWriteMethod();
+            if ("class".equals(descriptor.getName()) || Objects.isNull(descriptor.getPropertyType())
+                    || (Objects.isNull(readMethod) && Objects.isNull(writeMethod))) {
+                continue;
+            }
+            list.add(new Property(descriptor.getName(), descriptor.getPropertyType(),
+                    Objects.isNull(readMethod) ? null : createGetter(beanClass, readMethod),
+                    Objects.isNull(writeMethod) ? null : createSetter(beanClass, writeMethod)));
+        }
+        this.properties = list.toArray(new Property[0]);
+
+        Property[] builtSlots = null;
+        int builtSeed = 0;
+        for (int bits = slotBits(properties.length); bits <= MAX_SLOT_BITS && Objects.isNull(builtSlots); bits++) {
+            for (int attempt = 0; attempt < MAX_SEED_ATTEMPTS; attempt++) {
+                int candidate = 0x9E3779B9 + (attempt << 1);
+                builtSlots = buildSlots(properties, candidate, (1 << bits) - 1);
+                if (Objects.nonNull(builtSlots)) {
+                    builtSeed = candidate;
+                    break;
+                }
+            }
+        }
+        this.slots = builtSlots;
+        this.seed = builtSeed;
+        if (Objects.isNull(builtSlots)) {
+            Map<String, Property> index = new HashMap<>(CollectionConvertStrategy.capacity(properties.length));
+            for (Property property : properties) {
+                index.put(property.name, property);
+            }
+            this.fallbackIndex = index;
+        } else {
+            this.fallbackIndex = null;
+        }
+    }
+
+    /**
+     * 获取类的属性表，每个类只构建一次
+     *
+     * @param beanClass 类
+     * @return 属性表
+     */
+    static PropertyTable of(Class<?> beanClass) {
+        return TABLES.get(beanClass);
+    }
+
+    Class<?> getBeanClass() {
+        return beanClass;
+    }
+
+    /**
+     * 全部可读或可写属性
+     *
+     * @return 属性
+     */
+    Property[] getProperties() {
+        return properties;
+    }
+
+    /**
+     * 按属性名查找属性
+     *
+     * @param name 属性名
+     * @return 属性，不存在时为null
+     */
+    Property find(String name) {
+        if (Objects.isNull(slots)) {
+            return fallbackIndex.get(name);
+        }
+        Property property = slots[slotOf(name.hashCode(), seed, slots.length - 1)];
+        return Objects.nonNull(property) && property.name.equals(name) ? property : null;
+    }
+
+    /**
+     * 通过无参构造函数创建实例
+     *
+     * @throws ConvertException 不存在无参构造函数或创建失败
+     *
+     * @return 实例
+     */
+    Object newInstance() {
+        if (Objects.isNull(constructor)) {
+            throw ConvertException.of("Class \"" + beanClass.getName() + "\" has no accessible no-arg constructor");
+        }
+        return constructor.get();
+    }
+
+    private static int slotBits(int size) {
+        int bits = 1;
+        while ((1 << bits) < size * 2) {
+            bits++;
+        }
+        return bits;
+    }
+
+    private static int slotOf(int hash, int seed, int mask) {
+        int h = hash * seed;
+        return (h ^ (h >>> 16)) & mask;
+    }
+
+    private static Property[] buildSlots(Property[] properties, int seed, int mask) {
+        Property[] slots = new Property[mask + 1];
+        for (Property property : properties) {
+            int slot = slotOf(property.name.hashCode(), seed, mask);
+            if (Objects.nonNull(slots[slot])) {
+                return null;
+            }
+            slots[slot] = property;
+        }
+        return slots;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Supplier<Object> createConstructor(Class<?> beanClass) {
+        Constructor<?> ctor;
+        try {
+            ctor = beanClass.getConstructor();
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+        if (Modifier.isAbstract(beanClass.getModifiers())) {
+            return null;
+        }
+        if (isVisible(beanClass)) {
+            try {
+                MethodHandle target = LOOKUP.unreflectConstructor(ctor);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "get", MethodType.methodType(Supplier.class),
+                        MethodType.methodType(Object.class), target, MethodType.methodType(beanClass));
+                return (Supplier<Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("Fall back to reflection for constructor of \"{}\"", beanClass, e);
+            }
+        }
+        return () -> BeanUtils.instantiateClass(ctor);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> createGetter(Class<?> beanClass, Method readMethod) {
+        if (isVisible(beanClass) && isVisible(readMethod.getDeclaringClass())
+                && isVisible(readMethod.getReturnType())) {
+            try {
+                MethodHandle target = LOOKUP.unreflect(readMethod);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply",
+                        MethodType.methodType(Function.class), MethodType.methodType(Object.class, Object.class),
+                        target, MethodType.methodType(ClassUtil.wrapperClass(readMethod.getReturnType()), beanClass));
+                return (Function<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("Fall back to reflection for method \"{}\"", readMethod, e);
+            }
+        }
+        return bean -> {
+            try {
+                return readMethod.invoke(bean);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw ConvertException.of("Call method \"" + readMethod + "\" failed", e);
+            }
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static BiConsumer<Object, Object> createSetter(Class<?> beanClass, Method writeMethod) {
+        Class<?> parameterType = writeMethod.getParameterTypes()[0];
+        if (isVisible(beanClass) && isVisible(writeMethod.getDeclaringClass()) && isVisible(parameterType)) {
+            try {
+                MethodHandle target = LOOKUP.unreflect(writeMethod);
+                CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "accept",
+                        MethodType.methodType(BiConsumer.class),
+                        MethodType.methodType(void.class, Object.class, Object.class), target,
+                        MethodType.methodType(void.class, beanClass, ClassUtil.wrapperClass(parameterType)));
+                return (BiConsumer<Object, Object>) callSite.getTarget().invoke();
+            } catch (Throwable e) {
+                log.debug("Fall back to reflection for method \"{}\"", writeMethod, e);
+            }
+        }
+        return (bean, value) -> {
+            try {
+                writeMethod.invoke(bean, value);
+            } catch (IllegalAccessException | InvocationTargetException e) {
+                throw ConvertException.of("Call method \"" + writeMethod + "\" failed", e);
+            }
+        };
+    }
+
+    /**
+     * 生成的访问器由本框架的类加载器定义，相关类需为public且对其可见
+     *
+     * @param type 类
+     * @return true/false
+     */
+    private static boolean isVisible(Class<?> type) {
+        if (type.isPrimitive()) {
+            return true;
+        }
+        Class<?> component = type.isArray() ? type.getComponentType() : type;
+        return Modifier.isPublic(component.getModifiers())
+                && ClassUtils.isVisible(component, PropertyTable.class.getClassLoader());
+    }
+
+    /**
+     * Bean属性
+     */
+    static final class Property {
+
+        final String name;
+
+        final Class<?> type;
+
+        /**
+         * getter，不可读时为null
+         */
+        final Function<Object, Object> getter;
+
+        /**
+         * setter，不可写时为null
+         */
+        final BiConsumer<Object, Object> setter;
+
+        Property(String name, Class<?> type, Function<Object, Object> getter, BiConsumer<Object, Object> setter) {
+            this.name = name;
+            this.type = type;
+            this.getter = getter;
+            this.setter = setter;
+        }
+    }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.exception;
+
+/**
+ * 转换拒绝异常，转换方法并发数已满且排队策略为立即拒绝时抛出
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConvertRejectedException extends ConvertException {
+
+    public ConvertRejectedException(String message) {
+        super(message);
+    }
+
+    public ConvertRejectedException(Throwable cause) {
+        super(cause);
+    }
+
+    public static ConvertRejectedException of(String message) {
+        return new ConvertRejectedException(message);
+    }
+}
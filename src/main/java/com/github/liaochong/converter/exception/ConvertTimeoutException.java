@@ -0,0 +1,37 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.exception;
+
+/**
+ * 转换超时异常，批量转换超过期限时抛出
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConvertTimeoutException extends ConvertException {
+
+    public ConvertTimeoutException(String message) {
+        super(message);
+    }
+
+    public ConvertTimeoutException(Throwable cause) {
+        super(cause);
+    }
+
+    public static ConvertTimeoutException of(String message) {
+        return new ConvertTimeoutException(message);
+    }
+}
@@ -31,7 +31,15 @@ public class ConverterDisabledException extends RuntimeException {
         super(message, cause);
     }
 
+    public ConverterDisabledException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
     public static ConverterDisabledException of(String message) {
         return new ConverterDisabledException(message);
     }
+
+    public static ConverterDisabledException of(String message, boolean writableStackTrace) {
+        return new ConverterDisabledException(message, writableStackTrace);
+    }
 }
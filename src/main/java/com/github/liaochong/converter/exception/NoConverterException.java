@@ -31,7 +31,15 @@ public class NoConverterException extends RuntimeException {
         super(message, cause);
     }
 
+    public NoConverterException(String message, boolean writableStackTrace) {
+        super(message, null, false, writableStackTrace);
+    }
+
     public static NoConverterException of(String message) {
         return new NoConverterException(message);
     }
+
+    public static NoConverterException of(String message, boolean writableStackTrace) {
+        return new NoConverterException(message, writableStackTrace);
+    }
 }
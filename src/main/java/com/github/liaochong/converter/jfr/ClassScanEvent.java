@@ -0,0 +1,59 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 类扫描事件
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Name("com.github.liaochong.converter.ClassScan")
+@Label("Converter Class Scan")
+@Category("Converter")
+@Description("Classpath scanning of a converter package")
+@Threshold("0 ms")
+@StackTrace(false)
+public class ClassScanEvent extends jdk.jfr.Event {
+
+    @Label("Package Name")
+    String packageName;
+
+    @Label("Class Count")
+    int classCount;
+
+    /**
+     * 结束事件，满足阈值时提交
+     *
+     * @param packageName 扫描路径
+     * @param classCount 加载类数量
+     */
+    public void end(String packageName, int classCount) {
+        end();
+        if (shouldCommit()) {
+            this.packageName = packageName;
+            this.classCount = classCount;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 单个Bean转换事件
+ * <p>
+ * 调用频繁，默认关闭，开启后仅记录超过阈值的转换
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Name("com.github.liaochong.converter.ConvertBean")
+@Label("Convert Bean")
+@Category("Converter")
+@Description("Single bean conversion performed by BeanConverter")
+@Enabled(false)
+@Threshold("1 ms")
+@StackTrace(false)
+public class ConvertBeanEvent extends jdk.jfr.Event {
+
+    @Label("Source Class")
+    Class<?> sourceClass;
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    /**
+     * 结束事件，满足阈值时提交
+     *
+     * @param sourceClass 源类
+     * @param targetClass 目标类
+     */
+    public void end(Class<?> sourceClass, Class<?> targetClass) {
+        end();
+        if (shouldCommit()) {
+            this.sourceClass = sourceClass;
+            this.targetClass = targetClass;
+            commit();
+        }
+    }
+}
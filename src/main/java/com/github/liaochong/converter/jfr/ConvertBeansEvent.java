@@ -0,0 +1,74 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.jfr;
+
+import java.util.function.Supplier;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 集合转换事件
+ * <p>
+ * 每次集合转换记录一次，阈值可通过JFR配置 {@code com.github.liaochong.converter.ConvertBeans#threshold} 调整
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Name("com.github.liaochong.converter.ConvertBeans")
+@Label("Convert Beans")
+@Category("Converter")
+@Description("Batch conversion performed by BeanConverter")
+@Threshold("0 ms")
+@StackTrace(false)
+public class ConvertBeansEvent extends jdk.jfr.Event {
+
+    @Label("Source Class")
+    Class<?> sourceClass;
+
+    @Label("Target Class")
+    Class<?> targetClass;
+
+    @Label("Size")
+    int size;
+
+    @Label("Parallel")
+    boolean parallel;
+
+    /**
+     * 结束事件，满足阈值时提交
+     *
+     * @param sourceClass 源类提供者，仅在提交时调用
+     * @param targetClass 目标类
+     * @param size 集合大小
+     * @param parallel 是否为并行转换
+     */
+    public void end(Supplier<Class<?>> sourceClass, Class<?> targetClass, int size, boolean parallel) {
+        end();
+        if (shouldCommit()) {
+            this.sourceClass = sourceClass.get();
+            this.targetClass = targetClass;
+            this.size = size;
+            this.parallel = parallel;
+            commit();
+        }
+    }
+}
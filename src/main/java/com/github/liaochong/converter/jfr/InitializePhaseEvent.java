@@ -0,0 +1,54 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Threshold;
+
+/**
+ * 转换上下文初始化阶段事件
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Name("com.github.liaochong.converter.InitializePhase")
+@Label("Converter Initialize Phase")
+@Category("Converter")
+@Description("Phase of the conversion environment initialization")
+@Threshold("0 ms")
+@StackTrace(false)
+class InitializePhaseEvent extends jdk.jfr.Event {
+
+    @Label("Phase")
+    String phase;
+
+    /**
+     * 结束事件，满足阈值时提交
+     *
+     * @param phase 阶段名称
+     */
+    void end(String phase) {
+        end();
+        if (shouldCommit()) {
+            this.phase = phase;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.jfr;
+
+import java.util.function.Supplier;
+
+import org.springframework.util.ClassUtils;
+
+/**
+ * JFR支持工具
+ * <p>
+ * 运行时不存在jdk.jfr时（如Oracle JDK 8），所有事件均不会被创建
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class JfrSupport {
+
+    private static final boolean AVAILABLE = ClassUtils.isPresent("jdk.jfr.Event", JfrSupport.class.getClassLoader());
+
+    private JfrSupport() {
+    }
+
+    /**
+     * 当前运行时是否支持JFR事件
+     *
+     * @return true/false
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * 记录初始化阶段
+     *
+     * @param phase 阶段名称
+     * @param action 阶段操作
+     * @param <T> 返回值类型
+     * @return 阶段操作结果
+     */
+    public static <T> T recordPhase(String phase, Supplier<T> action) {
+        if (!AVAILABLE) {
+            return action.get();
+        }
+        InitializePhaseEvent event = new InitializePhaseEvent();
+        event.begin();
+        try {
+            return action.get();
+        } finally {
+            event.end(phase);
+        }
+    }
+
+    /**
+     * 记录初始化阶段
+     *
+     * @param phase 阶段名称
+     * @param action 阶段操作
+     */
+    public static void recordPhase(String phase, Runnable action) {
+        recordPhase(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
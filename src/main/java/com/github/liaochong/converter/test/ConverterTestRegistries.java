@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.RegistrySnapshot;
+import com.github.liaochong.converter.exception.NonUniqueConverterException;
+
+/**
+ * 测试用注册表
+ * <p>
+ * 由指定的转换类构建注册表，不扫描类路径；相同的转换类列表只构建一次，可在同一JVM的多个测试容器间共享；
+ * 注册表固定后容器启动不再扫描，也不会因重复初始化而失败。固定只作用于当前线程（及其发起的并行转换），
+ * 同一JVM中并发执行的测试可各自固定不同的注册表，互不影响；在其他线程中执行的转换（如真实端口上的请求线程）使用全局注册表
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public final class ConverterTestRegistries {
+
+    private static final Map<List<Class<?>>, RegistrySnapshot> CACHE = new ConcurrentHashMap<>();
+
+    private ConverterTestRegistries() {
+    }
+
+    /**
+     * 获取由指定转换类构建的注册表，相同的转换类列表（顺序相关）返回同一注册表
+     *
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param converterClasses 转换类
+     * @return 注册表
+     */
+    public static RegistrySnapshot of(Class<?>... converterClasses) {
+        return CACHE.computeIfAbsent(Arrays.asList(converterClasses.clone()),
+                classes -> RegistrySnapshot.of(converterClasses));
+    }
+
+    /**
+     * 当前线程固定使用由指定转换类构建的注册表
+     *
+     * @throws NonUniqueConverterException 转换条件重复
+     *
+     * @param converterClasses 转换类
+     * @return 注册表
+     */
+    public static RegistrySnapshot use(Class<?>... converterClasses) {
+        RegistrySnapshot snapshot = of(converterClasses);
+        ConverterContext.pinRegistry(snapshot);
+        return snapshot;
+    }
+
+    /**
+     * 取消当前线程的固定，恢复使用全局注册表，测试中运行时注册的转换方法随之丢弃
+     */
+    public static void reset() {
+        ConverterContext.unpinRegistry();
+    }
+
+    /**
+     * 清空已构建的注册表
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+}
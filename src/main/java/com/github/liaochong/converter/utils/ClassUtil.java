@@ -12,14 +12,51 @@ import java.util.jar.JarEntry;
 import java.util.jar.JarFile;
 
 import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
 import org.apache.commons.lang3.StringUtils;
 
+import com.github.liaochong.converter.jfr.ClassScanEvent;
+import com.github.liaochong.converter.jfr.JfrSupport;
+
 /**
  * @author liaochong
  * @version V1.0
  */
 public class ClassUtil {
 
+    /**
+     * 获取基本类型对应的包装类型，非基本类型返回自身
+     *
+     * @param clazz 类型
+     * @param <T> 类型
+     * @return 包装类型
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Class<T> wrapperClass(Class<T> clazz) {
+        return clazz.isPrimitive() ? (Class<T>) ClassUtils.primitiveToWrapper(clazz) : clazz;
+    }
+
+    /**
+     * 类是否可以被长期缓存，即由启动类加载器、本类的类加载器或其父加载器加载；
+     * 其他类加载器加载的类可能被卸载，被缓存持有时无法回收
+     *
+     * @param clazz 类型
+     * @return true/false
+     */
+    public static boolean isCacheSafe(Class<?> clazz) {
+        ClassLoader classLoader = clazz.getClassLoader();
+        if (Objects.isNull(classLoader)) {
+            return true;
+        }
+        for (ClassLoader current = ClassUtil.class.getClassLoader(); Objects.nonNull(current); current = current
+                .getParent()) {
+            if (current == classLoader) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * 获取类集合
      * 
@@ -27,6 +64,39 @@ public class ClassUtil {
      * @return Set
      */
     public static Set<Class<?>> getClassSet(String packageName) {
+        return getClassSet(packageName, new ScanStatistics(packageName));
+    }
+
+    /**
+     * 获取类集合，并记录扫描统计
+     *
+     * @param packageName 扫描路径
+     * @param statistics 扫描统计
+     * @return Set
+     */
+    public static Set<Class<?>> getClassSet(String packageName, ScanStatistics statistics) {
+        if (!JfrSupport.isAvailable()) {
+            return doGetClassSet(packageName, statistics);
+        }
+        ClassScanEvent event = new ClassScanEvent();
+        event.begin();
+        Set<Class<?>> classSet = null;
+        try {
+            classSet = doGetClassSet(packageName, statistics);
+            return classSet;
+        } finally {
+            event.end(packageName, Objects.isNull(classSet) ? 0 : classSet.size());
+        }
+    }
+
+    /**
+     * 获取类集合实现
+     *
+     * @param packageName 扫描路径
+     * @param statistics 扫描统计
+     * @return Set
+     */
+    private static Set<Class<?>> doGetClassSet(String packageName, ScanStatistics statistics) {
         try {
             Set<Class<?>> classSet = new HashSet<>();
             Enumeration<URL> urls = getClassLoader().getResources(packageName.replace(".", "/"));
@@ -35,12 +105,13 @@ public class ClassUtil {
                 if (Objects.isNull(url)) {
                     continue;
                 }
+                statistics.incrementUrlsScanned();
                 // 获取此 URL 的协议名称。
                 String protocol = url.getProtocol();
                 if ("file".equals(protocol)) {
                     // %20 表示file协议?
                     String packagePath = url.getPath().replaceAll("%20", " ");
-                    addClass(classSet, packagePath, packageName);
+                    addClass(classSet, packagePath, packageName, statistics);
                 } else if ("jar".equals(protocol)) {
                     JarURLConnection jarURLConnection = (JarURLConnection) url.openConnection();
                     if (Objects.isNull(jarURLConnection)) {
@@ -53,11 +124,12 @@ public class ClassUtil {
                     Enumeration<JarEntry> jarEntries = jarFile.entries();
                     while (jarEntries.hasMoreElements()) {
                         JarEntry jarEntry = jarEntries.nextElement();
+                        statistics.incrementJarEntriesScanned();
                         String jarEntryName = jarEntry.getName();
                         if (jarEntryName.endsWith(".class")) {
                             String className = jarEntryName.substring(0, jarEntryName.lastIndexOf(".")).replaceAll("/",
                                     ".");
-                            doAddClass(classSet, className);
+                            doAddClass(classSet, className, statistics);
                         }
                     }
                 }
@@ -96,8 +168,10 @@ public class ClassUtil {
      * @param classSet 类集合
      * @param packagePath 添加路径
      * @param packageName 包名称
+     * @param statistics 扫描统计
      */
-    private static void addClass(Set<Class<?>> classSet, String packagePath, String packageName) {
+    private static void addClass(Set<Class<?>> classSet, String packagePath, String packageName,
+            ScanStatistics statistics) {
         File[] files = new File(packagePath)
                 .listFiles(file -> file.isFile() && file.getName().endsWith(".class") || file.isDirectory());
         if (ArrayUtils.isEmpty(files)) {
@@ -111,7 +185,7 @@ public class ClassUtil {
                 if (StringUtils.isNotBlank(packageName)) {
                     className = packageName + "." + className;
                 }
-                doAddClass(classSet, className);
+                doAddClass(classSet, className, statistics);
             } else {
                 String subPackagePath = fileName;
                 if (StringUtils.isNotBlank(subPackagePath)) {
@@ -121,7 +195,7 @@ public class ClassUtil {
                 if (StringUtils.isNotBlank(packageName)) {
                     subPackageName = packageName + "." + subPackageName;
                 }
-                addClass(classSet, subPackagePath, subPackageName);
+                addClass(classSet, subPackagePath, subPackageName, statistics);
             }
         }
     }
@@ -131,9 +205,11 @@ public class ClassUtil {
      * 
      * @param classSet 类集合
      * @param className 类名称
+     * @param statistics 扫描统计
      */
-    private static void doAddClass(Set<Class<?>> classSet, String className) {
+    private static void doAddClass(Set<Class<?>> classSet, String className, ScanStatistics statistics) {
         Class<?> cls = loadClass(className);
+        statistics.incrementClassesLoaded();
         classSet.add(cls);
     }
 }
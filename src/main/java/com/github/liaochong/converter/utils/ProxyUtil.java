@@ -0,0 +1,115 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.utils;
+
+import java.lang.reflect.Method;
+
+import org.springframework.aop.Advisor;
+import org.springframework.aop.IntroductionAdvisor;
+import org.springframework.aop.Pointcut;
+import org.springframework.aop.PointcutAdvisor;
+import org.springframework.aop.TargetSource;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+
+/**
+ * 代理工具
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ProxyUtil {
+
+    /**
+     * 获取bean的用户类，代理对象返回被代理的类
+     *
+     * @param bean bean
+     * @return 用户类
+     */
+    public static Class<?> getUserClass(Object bean) {
+        return AopUtils.getTargetClass(bean);
+    }
+
+    /**
+     * 获取可直接调用的被代理对象
+     * <p>
+     * 仅当目标对象固定且代理未暴露给被调用方法（exposeProxy）时返回，否则返回null
+     * </p>
+     *
+     * @param bean bean
+     * @return 被代理对象，非代理对象或无法直接调用时为null
+     */
+    public static Object getUnwrappableTarget(Object bean) {
+        if (!(bean instanceof Advised)) {
+            return null;
+        }
+        Advised advised = (Advised) bean;
+        TargetSource targetSource = advised.getTargetSource();
+        if (advised.isExposeProxy() || !targetSource.isStatic()) {
+            return null;
+        }
+        try {
+            return targetSource.getTarget();
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * 方法是否会被代理增强
+     *
+     * @param proxy 代理对象
+     * @param method 用户类上的方法
+     * @param targetClass 用户类
+     * @return true/false，无法判断时为true
+     */
+    public static boolean isAdvised(Object proxy, Method method, Class<?> targetClass) {
+        if (!(proxy instanceof Advised)) {
+            return false;
+        }
+        for (Advisor advisor : ((Advised) proxy).getAdvisors()) {
+            if (advisor instanceof PointcutAdvisor) {
+                Pointcut pointcut = ((PointcutAdvisor) advisor).getPointcut();
+                if (pointcut.getClassFilter().matches(targetClass)
+                        && pointcut.getMethodMatcher().matches(method, targetClass)) {
+                    return true;
+                }
+            } else if (advisor instanceof IntroductionAdvisor) {
+                if (((IntroductionAdvisor) advisor).getClassFilter().matches(targetClass)) {
+                    return true;
+                }
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 选择可在代理对象上调用的方法，如JDK动态代理对应的接口方法
+     *
+     * @param method 用户类上的方法
+     * @param proxyType 代理类
+     * @return 方法，代理未暴露该方法时为null
+     */
+    public static Method selectInvocableMethod(Method method, Class<?> proxyType) {
+        try {
+            return AopUtils.selectInvocableMethod(method, proxyType);
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+}
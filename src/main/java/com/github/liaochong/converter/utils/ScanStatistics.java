@@ -0,0 +1,76 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.utils;
+
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * 单个扫描路径的扫描统计
+ * <p>
+ * 单个扫描路径在同一线程内扫描，因此不需要同步
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Data
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class ScanStatistics {
+
+    /**
+     * 扫描路径
+     */
+    final String packageName;
+
+    /**
+     * 扫描的URL数量
+     */
+    long urlsScanned;
+
+    /**
+     * 扫描的jar条目数量
+     */
+    long jarEntriesScanned;
+
+    /**
+     * 加载的类数量
+     */
+    long classesLoaded;
+
+    /**
+     * 扫描耗时（纳秒）
+     */
+    long wallNanos;
+
+    /**
+     * 扫描占用CPU时间（纳秒），不支持时为-1
+     */
+    long cpuNanos = -1;
+
+    void incrementUrlsScanned() {
+        urlsScanned++;
+    }
+
+    void incrementJarEntriesScanned() {
+        jarEntriesScanned++;
+    }
+
+    void incrementClassesLoaded() {
+        classesLoaded++;
+    }
+}
@@ -0,0 +1,332 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.web;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.concurrent.ListenableFuture;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.context.request.async.WebAsyncTask;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBodyReturnValueHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.liaochong.converter.annoation.ConvertTo;
+import com.github.liaochong.converter.context.ConversionContext;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link ConvertTo} 返回值处理器
+ * <p>
+ * 将处理方法的返回值转换后交给原本处理该返回类型的处理器（如 {@code @ResponseBody} 的处理器）序列化；
+ * 返回Stream或Iterator时以 {@link ConvertingResponseBody} 流式写入响应，需要classpath中存在Jackson且存在Spring的
+ * StreamingResponseBody处理器，否则收集为列表后转换，并对每个处理方法记录一次WARN日志；
+ * 每个处理方法在首次调用时解析并缓存转换方法及后续处理器，之后的请求不再查找注册表；
+ * 返回ResponseEntity、HttpEntity以及DeferredResult、Callable、CompletionStage等异步类型时不处理，交给Spring原有的处理器
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+@Slf4j
+public class ConvertToReturnValueHandler implements HandlerMethodReturnValueHandler {
+
+    private static final boolean PAGE_PRESENT = ClassUtils.isPresent("org.springframework.data.domain.Page",
+            ConvertToReturnValueHandler.class.getClassLoader());
+
+    /**
+     * 由Spring原有处理器处理的响应实体及异步返回类型
+     */
+    private static final List<Class<?>> PASS_THROUGH_TYPES = Arrays.asList(HttpEntity.class, DeferredResult.class,
+            Callable.class, CompletionStage.class, ListenableFuture.class, WebAsyncTask.class,
+            StreamingResponseBody.class, ResponseBodyEmitter.class);
+
+    private static final boolean JACKSON_PRESENT = ClassUtils.isPresent(
+            "com.fasterxml.jackson.databind.ObjectMapper", ConvertToReturnValueHandler.class.getClassLoader());
+
+    /**
+     * 原有的返回值处理器，按顺序选择第一个支持该返回类型的处理器
+     */
+    private final List<HandlerMethodReturnValueHandler> delegates;
+
+    /**
+     * 消息转换器，流式写入时使用其中Jackson转换器的ObjectMapper
+     */
+    private final List<HttpMessageConverter<?>> messageConverters;
+
+    private final Map<Method, Plan> plans = new ConcurrentHashMap<>();
+
+    public ConvertToReturnValueHandler(List<HandlerMethodReturnValueHandler> delegates) {
+        this(delegates, Collections.emptyList());
+    }
+
+    public ConvertToReturnValueHandler(List<HandlerMethodReturnValueHandler> delegates,
+            List<HttpMessageConverter<?>> messageConverters) {
+        this.delegates = new ArrayList<>(delegates);
+        this.messageConverters = new ArrayList<>(messageConverters);
+    }
+
+    @Override
+    public boolean supportsReturnType(MethodParameter returnType) {
+        return returnType.hasMethodAnnotation(ConvertTo.class) && PASS_THROUGH_TYPES.stream()
+                .noneMatch(type -> type.isAssignableFrom(returnType.getParameterType()));
+    }
+
+    @Override
+    public void handleReturnValue(Object returnValue, MethodParameter returnType,
+            ModelAndViewContainer mavContainer, NativeWebRequest webRequest) throws Exception {
+        Plan plan = plans.computeIfAbsent(returnType.getMethod(), method -> createPlan(returnType));
+        if (returnValue instanceof Stream || returnValue instanceof Iterator) {
+            if (JACKSON_PRESENT && Objects.nonNull(plan.streamingDelegate)) {
+                Object body = StreamingSupport.toResponseEntity(returnValue, plan.converter, messageConverters);
+                plan.streamingDelegate.handleReturnValue(body, plan.streamingType, mavContainer, webRequest);
+                return;
+            }
+            // 无法流式写入时转换为列表
+            plan.warnFallback(returnType.getMethod());
+            returnValue = collect(returnValue);
+        }
+        Object converted;
+        MethodParameter convertedType;
+        if (returnValue instanceof Collection) {
+            converted = plan.convertCollection((Collection<?>) returnValue);
+            convertedType = plan.listType;
+        } else if (Objects.nonNull(returnValue) && returnValue.getClass().isArray()) {
+            converted = plan.convertArray(returnValue);
+            convertedType = plan.arrayType;
+        } else if (PAGE_PRESENT && PageSupport.isPage(returnValue)) {
+            converted = PageSupport.convert(returnValue, plan.converter);
+            convertedType = plan.pageType;
+        } else {
+            converted = plan.converter.convert(returnValue, ConversionContext.newInstance());
+            convertedType = plan.elementType;
+        }
+        plan.delegate.handleReturnValue(converted, convertedType, mavContainer, webRequest);
+    }
+
+    private Plan createPlan(MethodParameter returnType) {
+        Class<?> targetClass = returnType.getMethodAnnotation(ConvertTo.class).value();
+        HandlerMethodReturnValueHandler delegate = findDelegate(returnType);
+        if (Objects.isNull(delegate)) {
+            throw new IllegalStateException("No return value handler for \"" + returnType.getMethod() + "\"");
+        }
+        MethodParameter streamingType = new ConvertedReturnType(returnType,
+                ResolvableType.forClassWithGenerics(ResponseEntity.class, StreamingResponseBody.class).getType());
+        return new Plan(targetClass, delegate, returnType, streamingType, findStreamingDelegate(streamingType));
+    }
+
+    /**
+     * 查找流式响应的处理器，只接受Spring的StreamingResponseBody处理器；HttpEntityMethodProcessor等其他支持
+     * ResponseEntity的处理器会以消息转换器序列化响应体对象本身，而不是写入流
+     *
+     * @param streamingType 流式响应的返回类型
+     * @return 处理器，不存在时为null
+     */
+    private HandlerMethodReturnValueHandler findStreamingDelegate(MethodParameter streamingType) {
+        HandlerMethodReturnValueHandler delegate = findDelegate(streamingType);
+        return delegate instanceof StreamingResponseBodyReturnValueHandler ? delegate : null;
+    }
+
+    private HandlerMethodReturnValueHandler findDelegate(MethodParameter returnType) {
+        return delegates.stream().filter(handler -> !(handler instanceof ConvertToReturnValueHandler))
+                .filter(handler -> handler.supportsReturnType(returnType)).findFirst().orElse(null);
+    }
+
+    /**
+     * 处理方法是否已因无法流式写入而收集为列表
+     *
+     * @param method 处理方法
+     * @return true/false
+     */
+    boolean isFallbackWarned(Method method) {
+        Plan plan = plans.get(method);
+        return Objects.nonNull(plan) && plan.fallbackWarned.get();
+    }
+
+    private static List<?> collect(Object returnValue) {
+        if (returnValue instanceof Stream) {
+            try (Stream<?> stream = (Stream<?>) returnValue) {
+                return stream.collect(Collectors.toList());
+            }
+        }
+        List<Object> elements = new ArrayList<>();
+        ((Iterator<?>) returnValue).forEachRemaining(elements::add);
+        return elements;
+    }
+
+    /**
+     * 处理方法的转换计划
+     */
+    private static final class Plan {
+
+        final TargetConverter converter;
+
+        final HandlerMethodReturnValueHandler delegate;
+
+        final MethodParameter elementType;
+
+        final MethodParameter listType;
+
+        final MethodParameter arrayType;
+
+        final MethodParameter pageType;
+
+        final MethodParameter streamingType;
+
+        /**
+         * 流式响应的处理器，不支持流式响应时为null
+         */
+        final HandlerMethodReturnValueHandler streamingDelegate;
+
+        /**
+         * 是否已记录收集为列表的日志
+         */
+        private final AtomicBoolean fallbackWarned = new AtomicBoolean();
+
+        Plan(Class<?> targetClass, HandlerMethodReturnValueHandler delegate, MethodParameter returnType,
+                MethodParameter streamingType, HandlerMethodReturnValueHandler streamingDelegate) {
+            this.converter = new TargetConverter(targetClass);
+            this.delegate = delegate;
+            this.elementType = new ConvertedReturnType(returnType, targetClass);
+            this.listType = new ConvertedReturnType(returnType,
+                    ResolvableType.forClassWithGenerics(List.class, targetClass).getType());
+            this.arrayType = new ConvertedReturnType(returnType,
+                    Array.newInstance(converter.getTargetClass(), 0).getClass());
+            this.pageType = PAGE_PRESENT ? PageSupport.pageType(returnType, targetClass) : null;
+            this.streamingType = streamingType;
+            this.streamingDelegate = streamingDelegate;
+        }
+
+        void warnFallback(Method method) {
+            if (fallbackWarned.compareAndSet(false, true)) {
+                log.warn("Method \"{}\" returns a stream but {}, elements are collected into a list before conversion",
+                        method, JACKSON_PRESENT ? "no StreamingResponseBody return value handler is present"
+                                : "jackson-databind is not present");
+            }
+        }
+
+        List<Object> convertCollection(Collection<?> source) {
+            ConversionContext context = ConversionContext.newInstance();
+            List<Object> result = new ArrayList<>(source.size());
+            for (Object element : source) {
+                result.add(converter.convert(element, context));
+            }
+            return result;
+        }
+
+        Object convertArray(Object source) {
+            ConversionContext context = ConversionContext.newInstance();
+            int length = Array.getLength(source);
+            Object result = Array.newInstance(converter.getTargetClass(), length);
+            for (int i = 0; i < length; i++) {
+                Array.set(result, i, converter.convert(Array.get(source, i), context));
+            }
+            return result;
+        }
+    }
+
+    /**
+     * 转换后的返回类型，供后续处理器按转换后的类型选择消息转换器
+     */
+    private static final class ConvertedReturnType extends MethodParameter {
+
+        private final Type type;
+
+        ConvertedReturnType(MethodParameter original, Type type) {
+            super(original);
+            this.type = type;
+        }
+
+        @Override
+        public Class<?> getParameterType() {
+            return ResolvableType.forType(type).resolve(Object.class);
+        }
+
+        @Override
+        public Type getGenericParameterType() {
+            return type;
+        }
+    }
+
+    /**
+     * Spring Data分页支持，仅在classpath中存在Spring Data时加载
+     */
+    private static final class PageSupport {
+
+        static boolean isPage(Object value) {
+            return value instanceof Page;
+        }
+
+        static Object convert(Object value, TargetConverter converter) {
+            ConversionContext context = ConversionContext.newInstance();
+            return ((Page<?>) value).map(element -> converter.convert(element, context));
+        }
+
+        static MethodParameter pageType(MethodParameter returnType, Class<?> targetClass) {
+            return new ConvertedReturnType(returnType,
+                    ResolvableType.forClassWithGenerics(Page.class, targetClass).getType());
+        }
+    }
+
+    /**
+     * 流式响应支持，仅在classpath中存在Jackson时加载
+     */
+    private static final class StreamingSupport {
+
+        static ResponseEntity<StreamingResponseBody> toResponseEntity(Object value, TargetConverter converter,
+                List<HttpMessageConverter<?>> messageConverters) {
+            ObjectMapper objectMapper = messageConverters.stream()
+                    .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+                    .map(messageConverter -> ((MappingJackson2HttpMessageConverter) messageConverter)
+                            .getObjectMapper())
+                    .findFirst().orElse(null);
+            ConvertingResponseBody body = value instanceof Stream
+                    ? new ConvertingResponseBody(((Stream<?>) value).iterator(), (Stream<?>) value, converter,
+                            objectMapper)
+                    : new ConvertingResponseBody((Iterator<?>) value, null, converter, objectMapper);
+            return body.toResponseEntity();
+        }
+    }
+}
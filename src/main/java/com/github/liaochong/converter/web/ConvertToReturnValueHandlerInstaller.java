@@ -0,0 +1,56 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.web;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerAdapter;
+
+/**
+ * 将 {@link ConvertToReturnValueHandler} 安装到RequestMappingHandlerAdapter的返回值处理器之首
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConvertToReturnValueHandlerInstaller implements BeanPostProcessor {
+
+    @Override
+    public Object postProcessBeforeInitialization(Object bean, String beanName) {
+        return bean;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (!(bean instanceof RequestMappingHandlerAdapter)) {
+            return bean;
+        }
+        RequestMappingHandlerAdapter adapter = (RequestMappingHandlerAdapter) bean;
+        List<HandlerMethodReturnValueHandler> handlers = adapter.getReturnValueHandlers();
+        if (Objects.isNull(handlers) || handlers.stream().anyMatch(ConvertToReturnValueHandler.class::isInstance)) {
+            return bean;
+        }
+        // 需位于@ResponseBody等处理器之前，否则不会被选中
+        List<HandlerMethodReturnValueHandler> newHandlers = new ArrayList<>(handlers.size() + 1);
+        newHandlers.add(new ConvertToReturnValueHandler(handlers, adapter.getMessageConverters()));
+        newHandlers.addAll(handlers);
+        adapter.setReturnValueHandlers(newHandlers);
+        return bean;
+    }
+}
@@ -0,0 +1,155 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.web;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.liaochong.converter.context.ConversionContext;
+
+/**
+ * 流式转换响应体
+ * <p>
+ * 逐个读取源元素，转换后直接写入JSON数组，写入后即可回收，不在内存中保留源列表、结果列表及完整的JSON；
+ * 源为Stream时写入结束后关闭该Stream，如数据库游标。只能写入一次
+ * </p>
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConvertingResponseBody implements StreamingResponseBody {
+
+    private final Iterator<?> source;
+
+    /**
+     * 写入结束后需要关闭的源，不存在时为null
+     */
+    private final AutoCloseable resource;
+
+    private final TargetConverter converter;
+
+    private final ObjectMapper objectMapper;
+
+    ConvertingResponseBody(Iterator<?> source, AutoCloseable resource, TargetConverter converter,
+            ObjectMapper objectMapper) {
+        this.source = Objects.requireNonNull(source, "Source can not be null");
+        this.resource = resource;
+        this.converter = converter;
+        this.objectMapper = Objects.isNull(objectMapper) ? new ObjectMapper() : objectMapper;
+    }
+
+    /**
+     * 静态工厂方法
+     *
+     * @param source 源
+     * @param targetClass 需要转换到的类型
+     * @return ConvertingResponseBody
+     */
+    public static ConvertingResponseBody of(Iterable<?> source, Class<?> targetClass) {
+        Objects.requireNonNull(source, "Source can not be null");
+        return of(source.iterator(), targetClass, null);
+    }
+
+    /**
+     * 静态工厂方法
+     *
+     * @param source 源
+     * @param targetClass 需要转换到的类型
+     * @param objectMapper 序列化使用的ObjectMapper，为null时使用默认配置
+     * @return ConvertingResponseBody
+     */
+    public static ConvertingResponseBody of(Iterator<?> source, Class<?> targetClass, ObjectMapper objectMapper) {
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        return new ConvertingResponseBody(source, null, new TargetConverter(targetClass), objectMapper);
+    }
+
+    /**
+     * 静态工厂方法，写入结束后关闭源
+     *
+     * @param source 源
+     * @param targetClass 需要转换到的类型
+     * @return ConvertingResponseBody
+     */
+    public static ConvertingResponseBody of(Stream<?> source, Class<?> targetClass) {
+        return of(source, targetClass, null);
+    }
+
+    /**
+     * 静态工厂方法，写入结束后关闭源
+     *
+     * @param source 源
+     * @param targetClass 需要转换到的类型
+     * @param objectMapper 序列化使用的ObjectMapper，为null时使用默认配置
+     * @return ConvertingResponseBody
+     */
+    public static ConvertingResponseBody of(Stream<?> source, Class<?> targetClass, ObjectMapper objectMapper) {
+        Objects.requireNonNull(source, "Source can not be null");
+        Objects.requireNonNull(targetClass, "TargetClass can not be null");
+        return new ConvertingResponseBody(source.iterator(), source, new TargetConverter(targetClass), objectMapper);
+    }
+
+    /**
+     * 包装为内容类型为JSON的响应
+     *
+     * @return 响应
+     */
+    public ResponseEntity<StreamingResponseBody> toResponseEntity() {
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON_UTF8).body(this);
+    }
+
+    @Override
+    public void writeTo(OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        // 输出流由容器关闭
+        generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            generator.writeStartArray();
+            ConversionContext context = ConversionContext.newInstance();
+            while (source.hasNext()) {
+                generator.writeObject(converter.convert(source.next(), context));
+            }
+            generator.writeEndArray();
+        } finally {
+            try {
+                generator.close();
+            } finally {
+                closeResource();
+            }
+        }
+    }
+
+    private void closeResource() throws IOException {
+        if (Objects.isNull(resource)) {
+            return;
+        }
+        try {
+            resource.close();
+        } catch (IOException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new IOException(e);
+        }
+    }
+}
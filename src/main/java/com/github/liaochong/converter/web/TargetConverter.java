@@ -0,0 +1,85 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.web;
+
+import java.util.Objects;
+
+import com.github.liaochong.converter.context.ConversionContext;
+import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.Handler;
+import com.github.liaochong.converter.exception.NoConverterException;
+import com.github.liaochong.converter.utils.ClassUtil;
+
+/**
+ * 转换到固定目标类型的转换器，缓存最近一次使用的源类及其转换方法，源类不变时不再查找注册表
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+final class TargetConverter {
+
+    private final Class<?> targetClass;
+
+    /**
+     * 最近一次使用的源类及其转换方法
+     */
+    private volatile ResolvedHandler resolved;
+
+    TargetConverter(Class<?> targetClass) {
+        this.targetClass = ClassUtil.wrapperClass(targetClass);
+    }
+
+    Class<?> getTargetClass() {
+        return targetClass;
+    }
+
+    /**
+     * 转换单个对象
+     *
+     * @throws NoConverterException 不存在对应的转换方法
+     *
+     * @param source 源对象
+     * @param context 转换上下文
+     * @return 结果，source为null时为null
+     */
+    Object convert(Object source, ConversionContext context) {
+        if (Objects.isNull(source)) {
+            return null;
+        }
+        Class<?> sourceClass = source.getClass();
+        ResolvedHandler current = resolved;
+        if (Objects.isNull(current) || current.sourceClass != sourceClass) {
+            current = new ResolvedHandler(sourceClass, ConverterContext.getActionHandler(sourceClass, targetClass));
+            resolved = current;
+        }
+        return targetClass.cast(current.handler.invoke(source, context));
+    }
+
+    /**
+     * 源类与转换方法，整体发布避免读到不匹配的组合
+     */
+    private static final class ResolvedHandler {
+
+        final Class<?> sourceClass;
+
+        final Handler handler;
+
+        ResolvedHandler(Class<?> sourceClass, Handler handler) {
+            this.sourceClass = sourceClass;
+            this.handler = handler;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.github.liaochong.converter.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+/**
+ * LruResultCache Tester.
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class LruResultCacheTest {
+
+    @Test
+    public void testHit() {
+        LruResultCache cache = new LruResultCache(16, 0);
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 10; i++) {
+            cache.get("key", source -> source + "-" + calls.incrementAndGet());
+        }
+        assert calls.get() == 1;
+        assert "key-1".equals(cache.get("key", source -> null));
+        assert cache.stats().getHitCount() == 10;
+        assert cache.stats().getMissCount() == 1;
+    }
+
+    @Test
+    public void testNullValue() {
+        LruResultCache cache = new LruResultCache(16, 0);
+        AtomicInteger calls = new AtomicInteger();
+        cache.get("key", source -> {
+            calls.incrementAndGet();
+            return null;
+        });
+        assert cache.get("key", source -> "other") == null;
+        assert calls.get() == 1;
+    }
+
+    @Test
+    public void testEviction() {
+        LruResultCache cache = new LruResultCache(64, 0);
+        for (int i = 0; i < 1000; i++) {
+            cache.get(i, source -> source);
+        }
+        assert cache.size() == 64;
+        assert cache.stats().getEvictionCount() == 1000 - 64;
+    }
+
+    @Test
+    public void testCapacityRemainder() {
+        // 2个段，容量分别为2、1
+        LruResultCache cache = new LruResultCache(3, 0);
+        for (int i = 0; i < 100; i++) {
+            cache.get(i, source -> source);
+        }
+        assert cache.size() == 3;
+        assert cache.stats().getEvictionCount() == 100 - 3;
+
+        // 16个段，4个段容量为7，其余为6
+        cache = new LruResultCache(100, 0);
+        for (int i = 0; i < 10000; i++) {
+            cache.get(i, source -> source);
+            assert cache.size() <= 100;
+        }
+        assert cache.size() == 100;
+    }
+
+    @Test
+    public void testSkewedEviction() {
+        // 键全部落在同一个段，该段容量为最大缓存数量的1/16
+        LruResultCache cache = new LruResultCache(64, 0);
+        for (int i = 0; i < 100; i++) {
+            cache.get(i * 16, source -> source);
+        }
+        assert cache.size() == 4;
+        assert cache.stats().getEvictionCount() == 100 - 4;
+    }
+
+    @Test
+    public void testExpire() throws InterruptedException {
+        LruResultCache cache = new LruResultCache(16, 1);
+        cache.get("key", source -> 1);
+        Thread.sleep(5);
+        assert (Integer) cache.get("key", source -> 2) == 2;
+    }
+
+}
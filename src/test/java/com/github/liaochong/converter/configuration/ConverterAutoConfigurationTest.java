@@ -0,0 +1,157 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.configuration;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.ConfigurableBeanFactory;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Scope;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+import com.github.liaochong.converter.annoation.Converter;
+import com.github.liaochong.converter.context.ConversionServiceBridge;
+import com.github.liaochong.converter.core.UserBO;
+import com.github.liaochong.converter.core.UserConverter;
+import com.github.liaochong.converter.exception.InvalidConfigurationException;
+import com.github.liaochong.converter.test.ConverterTestRegistries;
+
+/**
+ * ConverterAutoConfiguration Tester.
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConverterAutoConfigurationTest {
+
+    @Before
+    public void before() {
+        ConverterTestRegistries.use(UserConverter.class, NameConverter.class);
+    }
+
+    @After
+    public void after() {
+        ConverterTestRegistries.reset();
+    }
+
+    @Test
+    public void testValueInjection() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                TestConfiguration.class)) {
+            ValueHolder holder = context.getBean(ValueHolder.class);
+            assert "7".equals(holder.user.getName());
+            assert !ConversionServiceBridge.register(context.getBean(DefaultConversionService.class));
+
+            // 子容器刷新不会重复初始化父容器的转换上下文
+            try (AnnotationConfigApplicationContext child = new AnnotationConfigApplicationContext()) {
+                child.setParent(context);
+                child.refresh();
+            }
+        }
+    }
+
+    @Test
+    public void testProxiedThreadUnsafeConverter() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext()) {
+            context.register(UnsafeConfiguration.class);
+            try {
+                context.refresh();
+                assert false;
+            } catch (InvalidConfigurationException e) {
+                assert e.getMessage().contains("unsafeConverter");
+            }
+        }
+
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(
+                PrototypeUnsafeConfiguration.class)) {
+            assert context.isPrototype("unsafeConverter");
+        }
+    }
+
+    @Configuration
+    @Import(ConverterAutoConfiguration.class)
+    static class TestConfiguration {
+
+        @Bean
+        public static DefaultConversionService conversionService() {
+            return new DefaultConversionService();
+        }
+
+        @Bean
+        public ValueHolder valueHolder() {
+            return new ValueHolder();
+        }
+    }
+
+    static class ValueHolder {
+
+        @Value("7")
+        UserBO user;
+    }
+
+    @Configuration
+    @Import(ConverterAutoConfiguration.class)
+    static class UnsafeConfiguration {
+
+        @Bean
+        public UnsafeConverter unsafeConverter() {
+            return proxy(new UnsafeConverter());
+        }
+    }
+
+    @Configuration
+    @Import(ConverterAutoConfiguration.class)
+    static class PrototypeUnsafeConfiguration {
+
+        @Bean
+        @Scope(ConfigurableBeanFactory.SCOPE_PROTOTYPE)
+        public UnsafeConverter unsafeConverter() {
+            return proxy(new UnsafeConverter());
+        }
+    }
+
+    private static UnsafeConverter proxy(UnsafeConverter converter) {
+        ProxyFactory proxyFactory = new ProxyFactory(converter);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) MethodInvocation::proceed);
+        return (UnsafeConverter) proxyFactory.getProxy();
+    }
+
+    @Converter(threadSafe = false)
+    public static class UnsafeConverter {
+
+        public Integer convertLength(StringBuilder builder) {
+            return builder.length();
+        }
+    }
+
+    public static class NameConverter {
+
+        public static UserBO convertName(String name) {
+            UserBO user = new UserBO();
+            user.setName(name);
+            return user;
+        }
+    }
+}
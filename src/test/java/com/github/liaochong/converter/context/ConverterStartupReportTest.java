@@ -0,0 +1,75 @@
+package com.github.liaochong.converter.context;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.github.liaochong.converter.configuration.ConverterProperties;
+import com.github.liaochong.converter.context.ConverterStartupReport.Phase;
+import com.github.liaochong.converter.core.UserBO;
+import com.github.liaochong.converter.core.UserConverter;
+import com.github.liaochong.converter.core.UserDO;
+import com.github.liaochong.converter.utils.ScanStatistics;
+
+/**
+ * ConverterStartupReport Tester.
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConverterStartupReportTest {
+
+    private static final String PACKAGE = UserConverter.class.getPackage().getName();
+
+    @Test
+    public void testReport() {
+        ConverterProperties properties = new ConverterProperties();
+        properties.setScanPackages(Collections.singleton(PACKAGE));
+        ConverterStartupReport report = new ConverterStartupReport();
+        RegistrySnapshot snapshot = ConverterContext.buildRegistry(properties, null, report);
+
+        assert report.getPhases().keySet().equals(EnumSet.allOf(Phase.class));
+        assert report.getPhases().get(Phase.SCAN).getWallNanos() > 0;
+
+        List<ScanStatistics> packages = report.getPackages();
+        assert packages.size() == 1;
+        ScanStatistics statistics = packages.get(0);
+        assert PACKAGE.equals(statistics.getPackageName());
+        // 主代码与测试代码的输出目录
+        assert statistics.getUrlsScanned() == 2 && report.getUrlsScanned() == 2;
+        assert statistics.getJarEntriesScanned() == 0;
+        assert statistics.getClassesLoaded() > 0 && statistics.getClassesLoaded() == report.getClassesLoaded();
+        assert statistics.getWallNanos() > 0;
+
+        assert report.getConverterClasses() >= 1;
+        assert report.getMethodsInspected() >= report.getHandlersLinked();
+        assert report.getHandlersLinked() == snapshot.size();
+        assert snapshot.resolveActionHandler(Condition.newInstance(UserDO.class, UserBO.class)) != null;
+        assert report.format().contains("package \"" + PACKAGE + "\"");
+    }
+
+    @Test
+    public void testEmptyReport() {
+        // 注册表固定时跳过初始化，报告中没有任何阶段
+        ConverterStartupReport report = new ConverterStartupReport();
+        assert report.getPhases().isEmpty() && report.getPackages().isEmpty();
+        assert report.getHandlersLinked() == 0 && report.format() != null;
+    }
+
+    @Test
+    public void testOnlyScanNonStaticMethod() {
+        ConverterProperties properties = new ConverterProperties();
+        properties.setScanPackages(Collections.singleton(PACKAGE));
+        properties.setOnlyScanNonStaticMethod(true);
+        ConverterStartupReport report = new ConverterStartupReport();
+        RegistrySnapshot snapshot = ConverterContext.buildRegistry(properties, null, report);
+
+        assert snapshot.isEmpty();
+        assert report.getPackages().isEmpty() && report.getClassesLoaded() == 0;
+        assert !report.getPhases().containsKey(Phase.SCAN) && !report.getPhases().containsKey(Phase.FILTER);
+        assert report.getPhases().containsKey(Phase.REFLECTION) && report.getPhases().containsKey(Phase.REGISTRATION);
+        assert report.getConverterClasses() == 0 && report.getHandlersLinked() == 0;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2017 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.github.liaochong.converter.context;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+
+import org.junit.Test;
+
+import com.github.liaochong.converter.core.UserBO;
+import com.github.liaochong.converter.core.UserConverter;
+import com.github.liaochong.converter.core.UserDO;
+
+/**
+ * RegistrySnapshot Tester.
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class RegistrySnapshotTest {
+
+    @Test
+    public void testResolvedMissesOfForeignClasses() throws Exception {
+        RegistrySnapshot snapshot = RegistrySnapshot.of(UserConverter.class);
+        assert snapshot.resolveActionHandler(Condition.newInstance(Long.class, UserBO.class)) != null;
+        assert snapshot.resolveActionHandler(Condition.newInstance(UserDO.class, Integer.class)) == null;
+        assert snapshot.resolvedSize() == 2;
+
+        URL location = UserDO.class.getProtectionDomain().getCodeSource().getLocation();
+        try (URLClassLoader classLoader = new URLClassLoader(new URL[] { location }, null)) {
+            Class<?> foreignClass = classLoader.loadClass(UserDO.class.getName());
+            assert foreignClass != UserDO.class;
+            for (int i = 0; i < 2; i++) {
+                assert snapshot.resolveActionHandler(Condition.newInstance(foreignClass, Integer.class)) == null;
+                assert snapshot.resolveActionHandler(Condition.newInstance(Integer.class, foreignClass)) == null;
+            }
+        }
+        assert snapshot.resolvedSize() == 2;
+    }
+}
@@ -1,15 +1,54 @@
 package com.github.liaochong.converter.core;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 
 import org.junit.After;
 import org.junit.Before;
+import org.aopalliance.intercept.MethodInterceptor;
 import org.junit.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
 
+import com.github.liaochong.converter.annoation.ConvertBulkhead;
+import com.github.liaochong.converter.annoation.ConvertCache;
+import com.github.liaochong.converter.annoation.ConvertFill;
+import com.github.liaochong.converter.annoation.ConvertJoin;
+import com.github.liaochong.converter.annoation.ConvertWarmUp;
+import com.github.liaochong.converter.annoation.Converter;
 import com.github.liaochong.converter.configuration.ConverterProperties;
+import com.github.liaochong.converter.context.ConversionContext;
+import com.github.liaochong.converter.context.ConversionProfile;
+import com.github.liaochong.converter.context.ConversionServiceBridge;
 import com.github.liaochong.converter.context.ConverterContext;
+import com.github.liaochong.converter.context.RegistrySnapshot;
+import com.github.liaochong.converter.context.RuntimeConverterRegistry;
 import com.github.liaochong.converter.exception.ConvertException;
+import com.github.liaochong.converter.exception.ConvertTimeoutException;
+import com.github.liaochong.converter.exception.InvalidConfigurationException;
+import com.github.liaochong.converter.exception.NoConverterException;
+import com.github.liaochong.converter.test.ConverterTestRegistries;
 
 /**
  * BeanConverter Tester.
@@ -70,6 +109,42 @@ public class BeanConverterTest {
         List<UserBO> users = BeanConverter.convertIfNullThrow(list, UserBO.class, () -> new ConvertException("xx"));
     }
 
+    @Test
+    public void testIfNullThrowPrecedence() {
+        assert RuntimeConverterRegistry.register(FailingConverter.class) == 1;
+        try {
+            // NULL在首位或靠后时，均在任何转换执行之前抛出指定异常
+            for (int nullIndex : new int[] { 0, 3 }) {
+                List<UserDO> source = new ArrayList<>(list.subList(0, 3));
+                source.add(nullIndex, null);
+                FailingConverter.CALLS.set(0);
+                assertIfNullThrow(() -> BeanConverter.convertIfNullThrow(source, String.class,
+                        IllegalArgumentException::new));
+                assertIfNullThrow(() -> BeanConverter.parallelConvertIfNullThrow(source, String.class,
+                        IllegalArgumentException::new));
+                assert FailingConverter.CALLS.get() == 0;
+                // 不存在转换方法时同样优先抛出指定异常
+                assertIfNullThrow(() -> BeanConverter.convertIfNullThrow(source, Integer.class,
+                        IllegalArgumentException::new));
+                assertIfNullThrow(() -> BeanConverter.parallelConvertIfNullThrow(source, Integer.class,
+                        IllegalArgumentException::new));
+            }
+            assertIfNullThrow(() -> BeanConverter.convertIfNullThrow((List<UserDO>) null, String.class,
+                    IllegalArgumentException::new));
+        } finally {
+            assert RuntimeConverterRegistry.unregister(FailingConverter.class) == 1;
+        }
+    }
+
+    private static void assertIfNullThrow(Runnable action) {
+        try {
+            action.run();
+            assert false;
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testConvert() {
         List<UserBO> users = BeanConverter.convert(list, UserBO.class);
@@ -107,6 +182,111 @@ public class BeanConverterTest {
         assert users.size() == 2001;
     }
 
+    @Test
+    public void testDedupConvert() {
+        list.add(null);
+        List<UserBO> users = BeanConverter.dedupConvert(list, UserBO.class);
+        assert users.size() == 2001;
+        assert users.get(0) == users.get(2);
+        assert users.get(1) == users.get(3);
+        assert users.get(0) != users.get(1);
+        assert users.get(2000) == null;
+    }
+
+    @Test
+    public void testParallelDedupConvert() {
+        List<UserBO> users = BeanConverter.parallelDedupConvert(list, UserBO.class);
+        assert users.size() == 2000;
+        assert users.stream().distinct().count() == 2;
+        assert users.get(1998) == users.get(0);
+    }
+
+    @Test
+    public void testConvertCollection() {
+        List<UserBO> users = BeanConverter.parallelConvertCollection(new LinkedList<>(list), UserBO.class);
+        assert users.size() == 2000;
+        assert "1111".equals(users.get(0).getName());
+        assert "222".equals(users.get(1999).getName());
+    }
+
+    @Test
+    public void testConvertSet() {
+        Set<UserBO> users = BeanConverter.parallelConvertSet(new HashSet<>(list), UserBO.class);
+        assert users.size() == 2;
+    }
+
+    @Test
+    public void testConvertMap() {
+        Map<String, UserDO> map = new TreeMap<>();
+        map.put("b", list.get(1));
+        map.put("a", list.get(0));
+        Map<String, UserBO> users = BeanConverter.convertValues(map, UserBO.class);
+        assert users instanceof TreeMap;
+        assert "1111".equals(users.get("a").getName());
+        assert "222".equals(users.get("b").getName());
+    }
+
+    @Test
+    public void testConvertArray() {
+        UserDO[] array = list.toArray(new UserDO[0]);
+        UserBO[] users = BeanConverter.parallelConvertArray(array, UserBO.class);
+        assert users.length == 2000;
+        assert "222".equals(users[1999].getName());
+    }
+
+    @Test
+    public void testConvertContainerAsBean() {
+        assert RuntimeConverterRegistry.register(RowConverter.class) == 1;
+        try {
+            TreeMap<String, Object> row = new TreeMap<>();
+            row.put("name", "1111");
+            // 源对象为Map时仍作为单个Bean转换
+            String name = BeanConverter.convert(row, String.class);
+            assert "1111".equals(name);
+        } finally {
+            assert RuntimeConverterRegistry.unregister(RowConverter.class) == 1;
+        }
+    }
+
+    @Test
+    public void testConvertInto() {
+        UserBO target = new UserBO();
+        assert BeanConverter.convertInto(list.get(0), target) == target;
+        assert "1111".equals(target.getName());
+
+        List<UserBO> targets = new ArrayList<>();
+        list.forEach(user -> targets.add(new UserBO()));
+        BeanConverter.convertInto(list, targets);
+        assert "222".equals(targets.get(1999).getName());
+
+        UserBO pooled = new UserBO();
+        List<UserBO> users = BeanConverter.convertInto(list.subList(0, 1), UserBO.class, () -> pooled);
+        assert users.get(0) == pooled;
+
+        // 目标对象为子类时按父类查找填充方法
+        UserBO subclass = new UserBO() {
+        };
+        assert BeanConverter.convertInto(list.get(1), subclass) == subclass;
+        assert "222".equals(subclass.getName());
+    }
+
+    @Test
+    public void testUndeclaredTwoArgumentMethods() {
+        assert RegistrySnapshot.of(HelperConverter.class).isEmpty();
+        try {
+            RegistrySnapshot.of(InvalidFillConverter.class);
+            assert false;
+        } catch (InvalidConfigurationException e) {
+            // expected
+        }
+        try {
+            RegistrySnapshot.of(InvalidJoinConverter.class);
+            assert false;
+        } catch (InvalidConfigurationException e) {
+            // expected
+        }
+    }
+
     @Test
     public void testNonNullParallelConvert() {
         list.add(null);
@@ -114,4 +294,685 @@ public class BeanConverterTest {
         assert users.size() == 2000;
     }
 
+    @Test
+    public void testNonNullParallelConvertKeepOrder() {
+        list.add(0, null);
+        list.add(1001, null);
+        List<UserBO> users = BeanConverter.nonNullParallelConvert(list, UserBO.class);
+        assert users.size() == 2000;
+        for (int i = 0; i < users.size(); i++) {
+            assert list.get(i < 1000 ? i + 1 : i + 2).getName().equals(users.get(i).getName());
+        }
+        users.add(new UserBO());
+        assert users.size() == 2001;
+    }
+
+    @Test
+    @SuppressWarnings("serial")
+    public void testTypedToArraySource() {
+        UserDO[] users = list.subList(0, 4).toArray(new UserDO[0]);
+        ConverterTestRegistries.use(RuntimeConverter.class);
+        try {
+            // Java 8中Arrays.asList的toArray()返回UserDO[]，写入String会抛出ArrayStoreException
+            Collection<UserDO> view = Collections.unmodifiableCollection(Arrays.asList(users));
+            assert view.toArray() instanceof UserDO[];
+            assert "222".equals(BeanConverter.convertCollection(view, String.class).get(1));
+            assert "222".equals(BeanConverter.parallelConvertCollection(view, String.class).get(1));
+
+            Set<UserDO> set = new HashSet<UserDO>(Arrays.asList(users)) {
+                @Override
+                public Object[] toArray() {
+                    return toArray(new UserDO[0]);
+                }
+            };
+            assert BeanConverter.convertSet(set, String.class).contains("222");
+
+            List<UserDO> linked = new LinkedList<UserDO>(Arrays.asList(users)) {
+                @Override
+                public Object[] toArray() {
+                    return toArray(new UserDO[0]);
+                }
+            };
+            assert "222".equals(BeanConverter.parallelConvert(linked, String.class).get(1));
+        } finally {
+            ConverterTestRegistries.reset();
+        }
+    }
+
+    @Test
+    public void testConvertShortSource() {
+        ConverterTestRegistries.use(ShortConverter.class);
+        try {
+            // 基本类型short装箱为Short匹配转换方法，不会被拓宽为int或long
+            short code = 7;
+            assert "S7".equals(BeanConverter.convert(code, String.class));
+            char letter = 'c';
+            assert "C".equals(BeanConverter.convert(letter, String.class));
+        } finally {
+            ConverterTestRegistries.reset();
+        }
+    }
+
+    @Test
+    public void testConvertPrimitive() {
+        assert "user1".equals(BeanConverter.convertLong(1L, UserBO.class).getName());
+        assert "user2".equals(BeanConverter.convert(Long.valueOf(2L), UserBO.class).getName());
+
+        long[] ids = { 1L, 2L, 3L };
+        List<UserBO> users = BeanConverter.convertToList(ids, UserBO.class);
+        assert users.size() == 3 && "user3".equals(users.get(2).getName());
+
+        UserBO[] array = BeanConverter.parallelConvertToArray(ids, UserBO.class);
+        assert array.length == 3 && "user1".equals(array[0].getName());
+    }
+
+    @Test
+    public void testRuntimeRegistry() {
+        assert RuntimeConverterRegistry.register(RuntimeConverter.class) == 1;
+        assert "1111".equals(BeanConverter.convert(list.get(0), String.class));
+        assert RuntimeConverterRegistry.unregister(RuntimeConverter.class) == 1;
+        try {
+            BeanConverter.convert(list.get(0), String.class);
+            assert false;
+        } catch (NoConverterException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testConvertInChunks() {
+        List<UserBO> users = new ArrayList<>();
+        long count = BeanConverter.convertInChunks(list.iterator(), UserBO.class, 300, chunk -> {
+            assert chunk.size() <= 300;
+            users.addAll(chunk);
+        });
+        assert count == 2000 && users.size() == 2000;
+
+        List<UserBO> parallelUsers = new ArrayList<>();
+        count = BeanConverter.parallelConvertInChunks(list.iterator(), UserBO.class, 300, 3, parallelUsers::addAll);
+        assert count == 2000;
+        for (int i = 0; i < parallelUsers.size(); i++) {
+            assert list.get(i).getName().equals(parallelUsers.get(i).getName());
+        }
+
+        // 已拉取但尚未交给消费者的页不超过maxInFlight
+        Iterator<List<UserDO>> pages = Arrays.asList(list.subList(0, 500), list.subList(500, 1000),
+                list.subList(1000, 1500), list.subList(1500, 2000)).iterator();
+        AtomicInteger held = new AtomicInteger();
+        AtomicInteger maxHeld = new AtomicInteger();
+        count = BeanConverter.parallelConvertPages(() -> {
+            if (!pages.hasNext()) {
+                return null;
+            }
+            maxHeld.accumulateAndGet(held.incrementAndGet(), Math::max);
+            return pages.next();
+        }, UserBO.class, 2, chunk -> held.decrementAndGet());
+        assert count == 2000 && held.get() == 0 && maxHeld.get() == 2;
+    }
+
+    @Test
+    public void testConversionServiceBridge() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        conversionService.addConverter(ConversionServiceBridge.newInstance());
+        assert conversionService.canConvert(UserDO.class, UserBO.class);
+        assert "1111".equals(conversionService.convert(list.get(0), UserBO.class).getName());
+        assert "user7".equals(conversionService.convert(7L, UserBO.class).getName());
+    }
+
+    @Test
+    public void testConversionServiceBridgeFollowsRegistry() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        assert ConversionServiceBridge.register(conversionService);
+        assert !ConversionServiceBridge.register(conversionService);
+        assert !conversionService.canConvert(UserDO.class, String.class);
+
+        assert RuntimeConverterRegistry.register(RuntimeConverter.class) == 1;
+        try {
+            assert "1111".equals(conversionService.convert(list.get(0), String.class));
+        } finally {
+            assert RuntimeConverterRegistry.unregister(RuntimeConverter.class) == 1;
+        }
+        assert !conversionService.canConvert(UserDO.class, String.class);
+        assert conversionService.canConvert(UserDO.class, UserBO.class);
+    }
+
+    @Test
+    public void testConversionServiceBridgeIgnoresPinnedRegistries() {
+        DefaultConversionService conversionService = new DefaultConversionService();
+        assert ConversionServiceBridge.register(conversionService);
+        ConverterTestRegistries.use(RuntimeConverter.class);
+        try {
+            // 绑定全局注册表的ConversionService不受当前线程固定的注册表影响
+            assert !conversionService.canConvert(UserDO.class, String.class);
+            assert conversionService.canConvert(UserDO.class, UserBO.class);
+
+            DefaultConversionService pinned = new DefaultConversionService();
+            assert ConversionServiceBridge.register(pinned);
+            assert "1111".equals(pinned.convert(list.get(0), String.class));
+            assert !pinned.canConvert(UserDO.class, UserBO.class);
+
+            // 固定注册表的变化只同步到绑定它的ConversionService
+            assert RuntimeConverterRegistry.register(NestedConverter.class) == 1;
+            assert pinned.convert(list.get(0), Integer.class) == 4;
+            assert !conversionService.canConvert(UserDO.class, Integer.class);
+        } finally {
+            ConverterTestRegistries.reset();
+        }
+        assert !conversionService.canConvert(UserDO.class, String.class);
+    }
+
+    @Test
+    public void testTryConvert() {
+        assert BeanConverter.canConvert(UserDO.class, UserBO.class);
+        assert BeanConverter.canConvert(Long.class, UserBO.class);
+        assert !BeanConverter.canConvert(UserDO.class, Integer.class);
+        assert "1111".equals(BeanConverter.tryConvert(list.get(0), UserBO.class).get().getName());
+        assert !BeanConverter.tryConvert(list.get(0), Integer.class).isPresent();
+        assert !BeanConverter.tryConvert(null, UserBO.class).isPresent();
+    }
+
+    @Test
+    public void testRegisterProxiedConverter() {
+        AtomicInteger calls = new AtomicInteger();
+        ProxyFactory proxyFactory = new ProxyFactory(new ProxiedConverter());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAdvice((MethodInterceptor) invocation -> {
+            calls.incrementAndGet();
+            return invocation.proceed();
+        });
+        Object proxy = proxyFactory.getProxy();
+        assert RuntimeConverterRegistry.register(proxy) == 1;
+        try {
+            assert "1111".equals(BeanConverter.convert(list.get(0), String.class));
+            assert calls.get() == 1;
+        } finally {
+            assert RuntimeConverterRegistry.unregister(proxy) == 1;
+        }
+    }
+
+    @Test
+    public void testNonThreadSafeConverter() {
+        ScratchConverter converter = new ScratchConverter();
+        assert RuntimeConverterRegistry.register(converter) == 1;
+        try {
+            List<StringBuilder> names = BeanConverter.parallelConvert(list, StringBuilder.class);
+            for (int i = 0; i < names.size(); i++) {
+                assert list.get(i).getName().equals(names.get(i).toString());
+            }
+        } finally {
+            assert RuntimeConverterRegistry.unregister(converter) == 1;
+        }
+    }
+
+    @Test
+    public void testConvertAndIndex() {
+        Map<String, UserBO> byName = BeanConverter.parallelConvertToMap(list.subList(0, 2), UserBO.class,
+                UserBO::getName);
+        assert byName.size() == 2 && "1111".equals(byName.get("1111").getName());
+        try {
+            BeanConverter.convertToMap(list, UserBO.class, UserBO::getName);
+            assert false;
+        } catch (IllegalStateException e) {
+            // expected
+        }
+
+        Map<String, List<UserBO>> groups = BeanConverter.groupingConvert(list, UserBO.class, UserBO::getName);
+        assert groups.get("1111").size() == 1000 && groups.get("222").size() == 1000;
+        groups = BeanConverter.parallelGroupingConvert(list, UserBO.class, UserBO::getName);
+        assert groups.get("1111").size() == 1000 && groups.get("222").size() == 1000;
+
+        Map<Boolean, List<UserBO>> partitions = BeanConverter.parallelPartitionConvert(list, UserBO.class,
+                user -> "222".equals(user.getName()));
+        assert partitions.get(true).size() == 1000 && partitions.get(false).size() == 1000;
+    }
+
+    @Test
+    public void testConvertAndIndexKeys() {
+        try {
+            BeanConverter.parallelConvertToMap(list, UserBO.class, UserBO::getName);
+            assert false;
+        } catch (IllegalStateException e) {
+            // 并行转换时异常可能被ForkJoinTask包装后重新抛出
+            assert hasMessage(e, "Duplicate key");
+        }
+        for (boolean parallel : new boolean[] { false, true }) {
+            try {
+                if (parallel) {
+                    BeanConverter.parallelConvertToMap(list, UserBO.class, user -> null);
+                } else {
+                    BeanConverter.convertToMap(list, UserBO.class, user -> null);
+                }
+                assert false;
+            } catch (NullPointerException e) {
+                assert hasMessage(e, "Key can not be null");
+            }
+            try {
+                if (parallel) {
+                    BeanConverter.parallelGroupingConvert(list, UserBO.class, user -> null);
+                } else {
+                    BeanConverter.groupingConvert(list, UserBO.class, user -> null);
+                }
+                assert false;
+            } catch (NullPointerException e) {
+                assert hasMessage(e, "Key can not be null");
+            }
+        }
+    }
+
+    /**
+     * 异常或其原因的消息是否包含指定内容，ForkJoinTask重新抛出的异常可能不带消息
+     */
+    private static boolean hasMessage(Throwable e, String message) {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t.getMessage() != null && t.getMessage().contains(message)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Test
+    public void testParallelIndexOrder() {
+        List<Long> ids = LongStream.range(0, 10000).boxed().collect(Collectors.toList());
+        Map<Integer, List<UserBO>> groups = BeanConverter.parallelGroupingConvert(ids, UserBO.class,
+                user -> user.getName().length());
+        for (List<UserBO> group : groups.values()) {
+            assertAscending(group);
+        }
+        Map<Boolean, List<UserBO>> partitions = BeanConverter.parallelPartitionConvert(ids, UserBO.class,
+                user -> user.getName().endsWith("7"));
+        assert partitions.get(true).size() == 1000 && partitions.get(false).size() == 9000;
+        assertAscending(partitions.get(true));
+        assertAscending(partitions.get(false));
+    }
+
+    private static void assertAscending(List<UserBO> users) {
+        for (int i = 1; i < users.size(); i++) {
+            assert Long.parseLong(users.get(i - 1).getName().substring(4)) < Long
+                    .parseLong(users.get(i).getName().substring(4));
+        }
+    }
+
+    @Test
+    public void testConvertMulti() {
+        list.add(1, null);
+        RuntimeConverterRegistry.register(RuntimeConverter.class);
+        try {
+            MultiConvertResult result = BeanConverter.parallelConvertMulti(list, UserBO.class, String.class);
+            List<UserBO> users = result.get(UserBO.class);
+            List<String> names = result.get(String.class);
+            assert users.size() == 2001 && names.size() == 2001;
+            assert users.get(1) == null && names.get(1) == null;
+            assert "222".equals(users.get(2).getName()) && "222".equals(names.get(2));
+        } finally {
+            RuntimeConverterRegistry.unregister(RuntimeConverter.class);
+        }
+    }
+
+    @Test
+    public void testJoin() {
+        UserBO profile = new UserBO();
+        profile.setName("222");
+        profile.setSex("F");
+        List<UserBO> profiles = Arrays.asList(profile, null);
+
+        List<UserBO> joined = BeanConverter.join(list, UserDO::getName, profiles, UserBO::getName, UserBO.class);
+        assert joined.size() == 1000 && "F".equals(joined.get(0).getSex());
+
+        List<UserBO> leftJoined = BeanConverter.parallelLeftJoin(list, UserDO::getName, profiles, UserBO::getName,
+                UserBO.class);
+        assert leftJoined.size() == 2000;
+        assert leftJoined.get(0).getSex() == null && "F".equals(leftJoined.get(1).getSex());
+
+        List<UserBO> reversed = BeanConverter.leftJoin(list.subList(0, 2), UserDO::getName, list.stream().map(
+                user -> BeanConverter.convert(user, UserBO.class)).collect(Collectors.toList()), UserBO::getName,
+                UserBO.class);
+        assert reversed.size() == 2000 && "1111".equals(reversed.get(0).getName());
+    }
+
+    @Test
+    public void testConversionContext() {
+        ContextConverter.LOOKUPS.set(0);
+        assert RuntimeConverterRegistry.register(ContextConverter.class) == 1;
+        try {
+            List<String> names = BeanConverter.parallelConvert(list, String.class);
+            assert names.size() == 2000 && "user-222".equals(names.get(1));
+            assert ContextConverter.LOOKUPS.get() == 1;
+            BeanConverter.convert(list, String.class);
+            assert ContextConverter.LOOKUPS.get() == 2;
+            assert "user-1111".equals(BeanConverter.convert(list.get(0), String.class));
+            assert ContextConverter.LOOKUPS.get() == 3;
+        } finally {
+            assert RuntimeConverterRegistry.unregister(ContextConverter.class) == 1;
+        }
+    }
+
+    @Test
+    public void testBulkhead() {
+        assert RuntimeConverterRegistry.register(SlowConverter.class) == 1;
+        try {
+            List<String> names = BeanConverter.parallelConvert(list.subList(0, 8), String.class);
+            assert names.size() == 8 && SlowConverter.MAX_RUNNING.get() == 1;
+            try {
+                BeanConverter.parallelConvert(list, String.class);
+                assert false;
+            } catch (ConvertTimeoutException e) {
+                // expected
+            }
+        } finally {
+            assert RuntimeConverterRegistry.unregister(SlowConverter.class) == 1;
+        }
+    }
+
+    @Test
+    public void testSaturatedBulkheadKeepsPoolAvailable() throws Exception {
+        ConverterTestRegistries.use(GatedConverter.class, RuntimeConverter.class);
+        // 单个工作线程，等待许可时若不补充线程，其他并行转换无法执行
+        ForkJoinPool pool = new ForkJoinPool(1);
+        UserDO gate = new UserDO();
+        gate.setName("gate");
+        // 在其他线程中执行的转换使用当前线程固定的注册表
+        Supplier<Long> holdPermit = ConverterContext.withCurrentRegistry(() -> BeanConverter.convert(gate,
+                Long.class));
+        Supplier<List<Long>> convertAges = ConverterContext
+                .withCurrentRegistry(() -> BeanConverter.parallelConvert(list, Long.class));
+        Supplier<List<String>> convertNames = ConverterContext
+                .withCurrentRegistry(() -> BeanConverter.parallelConvert(list, String.class));
+        Thread holder = new Thread(holdPermit::get);
+        try {
+            holder.start();
+            assert GatedConverter.ENTERED.await(5, TimeUnit.SECONDS);
+            Future<List<Long>> saturated = pool.submit(convertAges::get);
+            Future<List<String>> unrelated = pool.submit(convertNames::get);
+            List<String> names = unrelated.get(10, TimeUnit.SECONDS);
+            assert names.size() == 2000 && "222".equals(names.get(1));
+            assert !saturated.isDone();
+
+            GatedConverter.GATE.countDown();
+            List<Long> ages = saturated.get(10, TimeUnit.SECONDS);
+            assert ages.size() == 2000 && ages.get(1) == 55;
+        } finally {
+            GatedConverter.GATE.countDown();
+            holder.join();
+            pool.shutdown();
+            ConverterTestRegistries.reset();
+        }
+    }
+
+    @Test
+    public void testBeanMap() {
+        Map<String, Object> row = BeanConverter.beanToMap(list.get(0));
+        assert "1111".equals(row.get("name")) && Integer.valueOf(34).equals(row.get("age"));
+
+        row.put("age", 35L);
+        row.put("unknown", "ignored");
+        UserDO user = BeanConverter.mapToBean(row, UserDO.class);
+        assert "1111".equals(user.getName()) && user.getAge() == 35;
+
+        List<Map<String, Object>> rows = BeanConverter.parallelBeansToMaps(list);
+        assert rows.size() == 2000 && "222".equals(rows.get(1).get("name"));
+        List<UserDO> users = BeanConverter.parallelMapsToBeans(rows, UserDO.class);
+        assert users.size() == 2000 && "222".equals(users.get(1).getName()) && users.get(1).getAge() == 55;
+    }
+
+    @Test
+    public void testWarmUpProfile() throws Exception {
+        Path profile = Files.createTempFile("converter-profile", ".tsv");
+        try {
+            ConversionProfile.startRecording();
+            BeanConverter.convert(list, UserBO.class);
+            assert ConversionProfile.save(profile) >= 1;
+            assert Files.readAllLines(profile).stream()
+                    .anyMatch(line -> line.startsWith(UserDO.class.getName() + "\t" + UserBO.class.getName()));
+            assert ConversionProfile.warmUp(profile, 2, getClass().getClassLoader()) >= 1;
+        } finally {
+            Files.deleteIfExists(profile);
+        }
+    }
+
+    @Test
+    public void testWarmUpOptIn() throws Exception {
+        Path profile = Files.createTempFile("converter-profile", ".tsv");
+        ConverterTestRegistries.use(WarmUpConverter.class, ColdConverter.class, CachedWarmUpConverter.class);
+        try {
+            String source = StringBuilder.class.getName() + "\t";
+            Files.write(profile, Arrays.asList(source + Integer.class.getName() + "\t3",
+                    source + Long.class.getName() + "\t2", source + Short.class.getName() + "\t1"));
+            assert ConversionProfile.warmUp(profile, 2, getClass().getClassLoader()) == 3;
+            long deadline = System.currentTimeMillis() + 5000;
+            while (WarmUpConverter.CALLS.get() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            assert WarmUpConverter.CALLS.get() == 2;
+            assert ColdConverter.CALLS.get() == 0 && CachedWarmUpConverter.CALLS.get() == 0;
+        } finally {
+            ConverterTestRegistries.reset();
+            Files.deleteIfExists(profile);
+        }
+    }
+
+    @Test
+    public void testPinnedRegistry() {
+        RegistrySnapshot snapshot = ConverterTestRegistries.use(RuntimeConverter.class, ScratchConverter.class);
+        try {
+            assert snapshot == ConverterTestRegistries.of(RuntimeConverter.class, ScratchConverter.class);
+            assert snapshot.size() == 2 && ConverterContext.isRegistryPinned();
+            assert "1111".equals(BeanConverter.convert(list.get(0), String.class));
+            assert "222".equals(BeanConverter.convert(list.get(1), StringBuilder.class).toString());
+            assert !BeanConverter.canConvert(UserDO.class, UserBO.class);
+            // 初始化时不再扫描，也不会因重复初始化失败
+            ConverterContext.initialize(new ConverterProperties(), null);
+        } finally {
+            ConverterTestRegistries.reset();
+        }
+        assert !ConverterContext.isRegistryPinned();
+        assert BeanConverter.canConvert(UserDO.class, UserBO.class);
+        assert !BeanConverter.canConvert(UserDO.class, String.class);
+    }
+
+    @Test
+    public void testPinnedRegistryIsThreadScoped() throws Exception {
+        ConverterTestRegistries.use(RuntimeConverter.class, NestedConverter.class);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // 并行转换的工作线程使用调用线程固定的注册表
+            List<Integer> lengths = BeanConverter.parallelConvert(list, Integer.class);
+            assert lengths.size() == list.size() && lengths.get(0) == 4 && lengths.get(1) == 3;
+            // 其他线程固定的注册表互不影响
+            assert executor.submit(() -> {
+                ConverterTestRegistries.use(ScratchConverter.class);
+                try {
+                    return BeanConverter.canConvert(UserDO.class, StringBuilder.class)
+                            && !BeanConverter.canConvert(UserDO.class, String.class);
+                } finally {
+                    ConverterTestRegistries.reset();
+                }
+            }).get();
+            assert BeanConverter.canConvert(UserDO.class, String.class);
+            // 未固定的线程使用全局注册表
+            assert executor.submit(() -> !ConverterContext.isRegistryPinned()
+                    && BeanConverter.canConvert(UserDO.class, UserBO.class)).get();
+        } finally {
+            executor.shutdown();
+            ConverterTestRegistries.reset();
+        }
+    }
+
+    @Converter(threadSafe = false)
+    public static class ScratchConverter {
+
+        private final StringBuilder scratch = new StringBuilder();
+
+        public StringBuilder convertName(UserDO user) {
+            scratch.setLength(0);
+            scratch.append(user.getName());
+            Thread.yield();
+            return new StringBuilder(scratch);
+        }
+    }
+
+    public static class ProxiedConverter {
+
+        public String convertName(UserDO user) {
+            return user.getName();
+        }
+    }
+
+    public static class RuntimeConverter {
+
+        public static String convertName(UserDO user) {
+            return user.getName();
+        }
+    }
+
+    public static class ShortConverter {
+
+        public static String convertShort(Short code) {
+            return "S" + code;
+        }
+
+        public static String convertChar(Character letter) {
+            return String.valueOf(Character.toUpperCase(letter));
+        }
+    }
+
+    @ConvertBulkhead(maxConcurrency = 1)
+    public static class GatedConverter {
+
+        static final CountDownLatch ENTERED = new CountDownLatch(1);
+
+        static final CountDownLatch GATE = new CountDownLatch(1);
+
+        public static Long convertAge(UserDO user) {
+            if ("gate".equals(user.getName())) {
+                ENTERED.countDown();
+                try {
+                    GATE.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return (long) user.getAge();
+        }
+    }
+
+    public static class NestedConverter {
+
+        public static Integer convertLength(UserDO user) {
+            return BeanConverter.convert(user, String.class).length();
+        }
+    }
+
+    public static class FailingConverter {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        public static String convertName(UserDO user) {
+            CALLS.incrementAndGet();
+            if ("222".equals(user.getName())) {
+                throw new IllegalStateException("failed");
+            }
+            return user.getName();
+        }
+    }
+
+    @ConvertWarmUp
+    public static class WarmUpConverter {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        public static Integer convertLength(StringBuilder builder) {
+            CALLS.incrementAndGet();
+            return builder.length();
+        }
+    }
+
+    public static class ColdConverter {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        public static Long convertLength(StringBuilder builder) {
+            CALLS.incrementAndGet();
+            return (long) builder.length();
+        }
+    }
+
+    public static class CachedWarmUpConverter {
+
+        static final AtomicInteger CALLS = new AtomicInteger();
+
+        @ConvertWarmUp
+        @ConvertCache
+        public static Short convertLength(StringBuilder builder) {
+            CALLS.incrementAndGet();
+            return (short) builder.length();
+        }
+    }
+
+    public static class HelperConverter {
+
+        public static void log(UserDO user, String message) {
+        }
+
+        public static String concat(String first, String second) {
+            return first + second;
+        }
+    }
+
+    public static class InvalidFillConverter {
+
+        @ConvertFill
+        public static UserBO fill(UserDO user, UserBO target) {
+            return target;
+        }
+    }
+
+    public static class InvalidJoinConverter {
+
+        @ConvertJoin
+        public static UserBO join(UserDO user) {
+            return null;
+        }
+    }
+
+    public static class RowConverter {
+
+        public static String convertRow(TreeMap<String, Object> row) {
+            return (String) row.get("name");
+        }
+    }
+
+    public static class ContextConverter {
+
+        static final AtomicInteger LOOKUPS = new AtomicInteger();
+
+        public static String convertName(UserDO user, ConversionContext context) {
+            String prefix = context.computeIfAbsent("prefix", () -> {
+                LOOKUPS.incrementAndGet();
+                return "user-";
+            });
+            return prefix + user.getName();
+        }
+    }
+
+    @ConvertBulkhead(maxConcurrency = 1, deadlineMillis = 200)
+    public static class SlowConverter {
+
+        static final AtomicInteger RUNNING = new AtomicInteger();
+
+        static final AtomicInteger MAX_RUNNING = new AtomicInteger();
+
+        public static String convertName(UserDO user) {
+            MAX_RUNNING.accumulateAndGet(RUNNING.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(2);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                RUNNING.decrementAndGet();
+            }
+            return user.getName();
+        }
+    }
+
 }
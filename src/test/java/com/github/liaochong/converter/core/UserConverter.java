@@ -2,6 +2,8 @@ package com.github.liaochong.converter.core;
 
 import java.util.Objects;
 
+import com.github.liaochong.converter.annoation.ConvertFill;
+import com.github.liaochong.converter.annoation.ConvertJoin;
 import com.github.liaochong.converter.annoation.Converter;
 
 /**
@@ -34,4 +36,25 @@ public class UserConverter {
         return result;
     }
 
+    @ConvertFill
+    public static void fillBO(UserDO user, UserBO target) {
+        target.setAge(user.getAge());
+        target.setName(user.getName());
+        target.setSex(user.getSex());
+    }
+
+    public static UserBO convertId2BO(long id) {
+        UserBO result = new UserBO();
+        result.setName("user" + id);
+        return result;
+    }
+
+    @ConvertJoin
+    public static UserBO joinBO(UserDO user, UserBO profile) {
+        UserBO result = new UserBO();
+        result.setName(user.getName());
+        result.setSex(Objects.isNull(profile) ? null : profile.getSex());
+        return result;
+    }
+
 }
@@ -0,0 +1,97 @@
+package com.github.liaochong.converter.jfr;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.junit.After;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.github.liaochong.converter.core.BeanConverter;
+import com.github.liaochong.converter.core.UserBO;
+import com.github.liaochong.converter.core.UserConverter;
+import com.github.liaochong.converter.core.UserDO;
+import com.github.liaochong.converter.test.ConverterTestRegistries;
+import com.github.liaochong.converter.utils.ClassUtil;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * JfrSupport Tester.
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class JfrSupportTest {
+
+    @Before
+    public void before() {
+        Assume.assumeTrue(JfrSupport.isAvailable());
+        ConverterTestRegistries.use(UserConverter.class);
+    }
+
+    @After
+    public void after() {
+        ConverterTestRegistries.reset();
+    }
+
+    @Test
+    public void testEvents() throws Exception {
+        UserDO user = new UserDO();
+        user.setName("1111");
+        List<UserDO> users = new ArrayList<>();
+        users.add(user);
+        users.add(user);
+
+        Path file = Files.createTempFile("converter", ".jfr");
+        try {
+            try (Recording recording = new Recording()) {
+                recording.enable("com.github.liaochong.converter.ConvertBean").withThreshold(Duration.ZERO);
+                recording.enable("com.github.liaochong.converter.ConvertBeans");
+                recording.enable("com.github.liaochong.converter.ClassScan");
+                recording.enable("com.github.liaochong.converter.InitializePhase");
+                recording.start();
+                BeanConverter.convert(user, UserBO.class);
+                BeanConverter.parallelConvert(users, UserBO.class);
+                ClassUtil.getClassSet("com.github.liaochong.converter.core");
+                JfrSupport.recordPhase("test", () -> {
+                });
+                recording.stop();
+                recording.dump(file);
+            }
+            List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().startsWith("com.github.liaochong.converter."))
+                    .collect(Collectors.toList());
+
+            RecordedEvent bean = single(events, "ConvertBean");
+            assert UserDO.class.getName().equals(bean.getClass("sourceClass").getName());
+            assert UserBO.class.getName().equals(bean.getClass("targetClass").getName());
+
+            RecordedEvent beans = single(events, "ConvertBeans");
+            assert beans.getInt("size") == 2 && beans.getBoolean("parallel");
+
+            RecordedEvent scan = single(events, "ClassScan");
+            assert "com.github.liaochong.converter.core".equals(scan.getString("packageName"));
+            assert scan.getInt("classCount") > 0;
+
+            assert "test".equals(single(events, "InitializePhase").getString("phase"));
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matched = events.stream()
+                .filter(event -> event.getEventType().getName().equals("com.github.liaochong.converter." + name))
+                .collect(Collectors.toList());
+        assert matched.size() == 1 : name + " events: " + matched.size();
+        return matched.get(0);
+    }
+}
@@ -0,0 +1,354 @@
+package com.github.liaochong.converter.web;
+
+import java.io.ByteArrayOutputStream;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.ResolvableType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.web.bind.annotation.ResponseBody;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.method.support.HandlerMethodReturnValueHandler;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.mvc.method.annotation.HttpEntityMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.RequestResponseBodyMethodProcessor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBodyReturnValueHandler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.github.liaochong.converter.annoation.ConvertTo;
+import com.github.liaochong.converter.core.UserBO;
+import com.github.liaochong.converter.core.UserConverter;
+import com.github.liaochong.converter.core.UserDO;
+import com.github.liaochong.converter.test.ConverterTestRegistries;
+
+/**
+ * ConvertToReturnValueHandler Tester.
+ *
+ * @author liaochong
+ * @version 1.0
+ */
+public class ConvertToReturnValueHandlerTest {
+
+    private static List<UserDO> list;
+
+    /**
+     * 后续处理器收到的返回值及返回类型
+     */
+    private final Object[] written = new Object[2];
+
+    private final HandlerMethodReturnValueHandler delegate = new HandlerMethodReturnValueHandler() {
+        @Override
+        public boolean supportsReturnType(MethodParameter returnType) {
+            return true;
+        }
+
+        @Override
+        public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                ModelAndViewContainer mavContainer, NativeWebRequest webRequest) {
+            written[0] = returnValue;
+            written[1] = returnType;
+        }
+    };
+
+    /**
+     * 流式响应的处理器，只记录返回值，不启动异步请求
+     */
+    private final HandlerMethodReturnValueHandler streamingDelegate = new StreamingResponseBodyReturnValueHandler() {
+        @Override
+        public void handleReturnValue(Object returnValue, MethodParameter returnType,
+                ModelAndViewContainer mavContainer, NativeWebRequest webRequest) {
+            written[0] = returnValue;
+            written[1] = returnType;
+        }
+    };
+
+    @Before
+    public void before() {
+        ConverterTestRegistries.use(UserConverter.class);
+        list = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            list.add(user("1111"));
+            list.add(user("222"));
+        }
+    }
+
+    @After
+    public void after() {
+        ConverterTestRegistries.reset();
+    }
+
+    @Test
+    public void testConvertToReturnValue() throws Exception {
+        ConvertToReturnValueHandler handler = new ConvertToReturnValueHandler(Collections.singletonList(delegate));
+        MethodParameter returnType = returnType("getUsers");
+        assert handler.supportsReturnType(returnType);
+        assert !handler.supportsReturnType(returnType("getUser"));
+        // 响应实体及异步返回类型交给Spring原有的处理器
+        assert !handler.supportsReturnType(returnType("getUserEntity"));
+        assert !handler.supportsReturnType(returnType("getUserLater"));
+
+        handler.handleReturnValue(list, returnType, null, null);
+        List<?> users = (List<?>) written[0];
+        assert users.size() == 2000 && "222".equals(((UserBO) users.get(1)).getName());
+        assert ResolvableType.forMethodParameter(writtenType()).getGeneric(0).resolve() == UserBO.class;
+
+        handler.handleReturnValue(list.get(0), returnType, null, null);
+        assert "1111".equals(((UserBO) written[0]).getName());
+        assert writtenType().getParameterType() == UserBO.class;
+
+        handler.handleReturnValue(null, returnType, null, null);
+        assert written[0] == null;
+    }
+
+    @Test
+    public void testConvertArray() throws Exception {
+        ConvertToReturnValueHandler handler = new ConvertToReturnValueHandler(Collections.singletonList(delegate));
+        UserDO[] source = { user("1111"), null, user("222") };
+        handler.handleReturnValue(source, returnType("getUserArray"), null, null);
+        assert written[0] instanceof UserBO[];
+        UserBO[] users = (UserBO[]) written[0];
+        assert users.length == 3 && "1111".equals(users[0].getName()) && users[1] == null
+                && "222".equals(users[2].getName());
+        assert writtenType().getParameterType() == UserBO[].class;
+    }
+
+    @Test
+    public void testConvertPage() throws Exception {
+        ConvertToReturnValueHandler handler = new ConvertToReturnValueHandler(Collections.singletonList(delegate));
+        Page<UserDO> source = new PageImpl<>(Arrays.asList(user("1111"), user("222")), new PageRequest(1, 2), 5);
+        handler.handleReturnValue(source, returnType("getUserPage"), null, null);
+        Page<?> page = (Page<?>) written[0];
+        assert page.getTotalElements() == 5 && page.getNumber() == 1 && page.getContent().size() == 2;
+        assert "222".equals(((UserBO) page.getContent().get(1)).getName());
+        ResolvableType type = ResolvableType.forMethodParameter(writtenType());
+        assert type.resolve() == Page.class && type.getGeneric(0).resolve() == UserBO.class;
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testConvertingResponseBody() throws Exception {
+        AtomicInteger closed = new AtomicInteger();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ConvertingResponseBody.of(list.stream().onClose(closed::incrementAndGet), UserBO.class).writeTo(out);
+        assert closed.get() == 1;
+        List<Map<String, Object>> users = new ObjectMapper().readValue(out.toByteArray(), List.class);
+        assert users.size() == 2000 && "222".equals(users.get(1).get("name"));
+
+        ConvertToReturnValueHandler handler = new ConvertToReturnValueHandler(
+                Arrays.asList(streamingDelegate, delegate));
+        handler.handleReturnValue(list.stream().onClose(closed::incrementAndGet), returnType("streamUsers"), null,
+                null);
+        assert closed.get() == 1;
+        out.reset();
+        ((ResponseEntity<StreamingResponseBody>) written[0]).getBody().writeTo(out);
+        assert closed.get() == 2;
+        users = new ObjectMapper().readValue(out.toByteArray(), List.class);
+        assert users.size() == 2000 && "1111".equals(users.get(0).get("name"));
+    }
+
+    @Test
+    public void testStreamingObjectMapper() throws Exception {
+        MethodParameter returnType = returnType("streamUsers");
+        // 不存在Jackson消息转换器时使用默认配置的ObjectMapper
+        List<HttpMessageConverter<?>> withoutJackson = Collections.singletonList(new StringHttpMessageConverter());
+        String json = writeStreaming(new ConvertToReturnValueHandler(Arrays.asList(streamingDelegate, delegate),
+                withoutJackson), returnType);
+        assert json.startsWith("[{") && !json.contains("\n") && json.contains("\"name\":\"222\"");
+
+        // 存在时使用其ObjectMapper
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        List<HttpMessageConverter<?>> withJackson = Arrays.asList(new StringHttpMessageConverter(),
+                new MappingJackson2HttpMessageConverter(objectMapper));
+        json = writeStreaming(new ConvertToReturnValueHandler(Arrays.asList(streamingDelegate, delegate),
+                withJackson), returnType);
+        assert json.contains("\n") && json.contains("\"name\" : \"222\"");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testStreamFallback() throws Exception {
+        List<HttpMessageConverter<?>> messageConverters = Collections
+                .singletonList(new MappingJackson2HttpMessageConverter());
+        // HttpEntityMethodProcessor支持ResponseEntity，但会序列化响应体对象本身，不能用于流式写入
+        ConvertToReturnValueHandler handler = new ConvertToReturnValueHandler(
+                Arrays.asList(new HttpEntityMethodProcessor(messageConverters),
+                        new RequestResponseBodyMethodProcessor(messageConverters)),
+                messageConverters);
+        MethodParameter returnType = returnType("streamUsers");
+        assert !handler.isFallbackWarned(returnType.getMethod());
+        AtomicInteger closed = new AtomicInteger();
+        for (int i = 0; i < 2; i++) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ModelAndViewContainer mavContainer = new ModelAndViewContainer();
+            handler.handleReturnValue(Stream.of(user("1111"), user("222")).onClose(closed::incrementAndGet),
+                    returnType, mavContainer, webRequest(out));
+            assert mavContainer.isRequestHandled() && handler.isFallbackWarned(returnType.getMethod());
+            List<Map<String, Object>> users = new ObjectMapper().readValue(out.toByteArray(), List.class);
+            assert users.size() == 2 && "222".equals(users.get(1).get("name"));
+        }
+        assert closed.get() == 2;
+
+        // 存在StreamingResponseBody处理器时流式写入，不记录日志
+        handler = new ConvertToReturnValueHandler(Arrays.asList(streamingDelegate,
+                new HttpEntityMethodProcessor(messageConverters),
+                new RequestResponseBodyMethodProcessor(messageConverters)), messageConverters);
+        writeStreaming(handler, returnType);
+        assert !handler.isFallbackWarned(returnType.getMethod());
+    }
+
+    @SuppressWarnings("unchecked")
+    private String writeStreaming(ConvertToReturnValueHandler handler, MethodParameter returnType)
+            throws Exception {
+        handler.handleReturnValue(Stream.of(user("1111"), user("222")), returnType, null, null);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ((ResponseEntity<StreamingResponseBody>) written[0]).getBody().writeTo(out);
+        return out.toString("UTF-8");
+    }
+
+    /**
+     * 请求接受JSON，响应写入到指定的输出流
+     */
+    private static NativeWebRequest webRequest(ByteArrayOutputStream out) {
+        Map<String, Function<Object[], Object>> request = new HashMap<>();
+        request.put("getHeaders", args -> Collections.enumeration("Accept".equals(args[0])
+                ? Collections.singletonList("application/json") : Collections.emptyList()));
+        request.put("getHeaderNames", args -> Collections.emptyEnumeration());
+        request.put("getMethod", args -> "GET");
+        request.put("getRequestURI", args -> "/users");
+        request.put("getContextPath", args -> "");
+        request.put("getServletPath", args -> "/users");
+
+        ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                out.write(b);
+            }
+        };
+        Map<String, Function<Object[], Object>> response = new HashMap<>();
+        response.put("getOutputStream", args -> outputStream);
+        response.put("getHeaders", args -> Collections.emptyList());
+        response.put("getHeaderNames", args -> Collections.emptyList());
+        response.put("getStatus", args -> 200);
+        return new ServletWebRequest(servletProxy(HttpServletRequest.class, request),
+                servletProxy(HttpServletResponse.class, response));
+    }
+
+    /**
+     * 按方法名应答的Servlet对象，未指定的方法返回默认值
+     */
+    private static <T> T servletProxy(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] { type },
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+                    if (answer != null) {
+                        return answer.apply(args);
+                    }
+                    switch (method.getName()) {
+                    case "equals":
+                        return proxy == args[0];
+                    case "hashCode":
+                        return System.identityHashCode(proxy);
+                    case "toString":
+                        return type.getSimpleName();
+                    default:
+                        break;
+                    }
+                    Class<?> returnType = method.getReturnType();
+                    if (returnType == boolean.class) {
+                        return false;
+                    }
+                    if (returnType == int.class) {
+                        return 0;
+                    }
+                    return returnType == long.class ? 0L : null;
+                }));
+    }
+
+    private MethodParameter writtenType() {
+        return (MethodParameter) written[1];
+    }
+
+    private static MethodParameter returnType(String methodName) throws NoSuchMethodException {
+        return new MethodParameter(UserController.class.getMethod(methodName), -1);
+    }
+
+    private static UserDO user(String name) {
+        UserDO user = new UserDO();
+        user.setName(name);
+        return user;
+    }
+
+    public static class UserController {
+
+        public UserDO getUser() {
+            return list.get(0);
+        }
+
+        @ConvertTo(UserBO.class)
+        public ResponseEntity<UserDO> getUserEntity() {
+            return ResponseEntity.ok(list.get(0));
+        }
+
+        @ConvertTo(UserBO.class)
+        public CompletableFuture<UserDO> getUserLater() {
+            return CompletableFuture.completedFuture(list.get(0));
+        }
+
+        @ConvertTo(UserBO.class)
+        public List<UserDO> getUsers() {
+            return list;
+        }
+
+        @ConvertTo(UserBO.class)
+        public UserDO[] getUserArray() {
+            return list.toArray(new UserDO[0]);
+        }
+
+        @ConvertTo(UserBO.class)
+        public Page<UserDO> getUserPage() {
+            return new PageImpl<>(list);
+        }
+
+        @ResponseBody
+        @ConvertTo(UserBO.class)
+        public Stream<UserDO> streamUsers() {
+            return list.stream();
+        }
+    }
+}